@@ -3,16 +3,16 @@ package com.book.backend.domain.book.controller;
 import com.book.backend.domain.book.service.BookService;
 
 import com.book.backend.domain.openapi.dto.response.LoanItemSrchResponseDto;
-import com.book.backend.domain.openapi.service.RandomPicker;
 import com.book.backend.domain.openapi.service.RequestValidate;
-import com.book.backend.domain.openapi.dto.request.LoanItemSrchRequestDto;
 
-import com.book.backend.domain.openapi.dto.request.HotTrendRequestDto;
-import com.book.backend.domain.openapi.dto.request.MonthlyKeywordsRequestDto;
 import com.book.backend.domain.openapi.dto.response.HotTrendResponseDto;
 import com.book.backend.domain.openapi.dto.response.MonthlyKeywordsResponseDto;
 import com.book.backend.domain.openapi.dto.response.RecommendListResponseDto;
 import com.book.backend.domain.openapi.dto.request.RecommendListRequestDto;
+import com.book.backend.domain.trend.dto.TrendSnapshot;
+import com.book.backend.domain.trend.entity.TrendSnapshotType;
+import com.book.backend.domain.trend.service.TrendSnapshotService;
+import com.book.backend.global.ResponseCachePolicy;
 import com.book.backend.global.ResponseTemplate;
 import com.book.backend.global.log.RequestLogger;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,11 +20,11 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
-import java.time.LocalDate;
-import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.Map;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -43,6 +43,7 @@ public class BookController {
     private final BookService bookService;
     private final ResponseTemplate responseTemplate;
     private final RequestValidate requestValidate;
+    private final TrendSnapshotService trendSnapshotService;
 
     // 마니아(4), 다독자(5) 추천 API
     @Operation(summary="책 추천", description="특정 책 코드를 입력으로 받아 해당 책 기반 추천 책 list를 반환합니다.",
@@ -55,11 +56,7 @@ public class BookController {
         requestValidate.isValidIsbn(isbn);
 
         RecommendListRequestDto requestDto = RecommendListRequestDto.builder().isbn13(isbn).build();
-        LinkedList<RecommendListResponseDto> response = bookService.recommend(requestDto);
-
-        HashSet<String> duplicateCheckSet = new HashSet<>();
-        LinkedList<RecommendListResponseDto> duplicateRemovedList = bookService.duplicateChecker(response, duplicateCheckSet);
-        response = RandomPicker.randomPick(duplicateRemovedList, 10); // 10개 랜덤 추출
+        LinkedList<RecommendListResponseDto> response = bookService.recommend(requestDto); // 중복 제거된 후보 중 10개 랜덤 추출
 
         return responseTemplate.success(response, HttpStatus.OK);
     }
@@ -71,12 +68,10 @@ public class BookController {
     @GetMapping("/hotTrend")
 
     public ResponseEntity<?> hotTrend() throws Exception {
-        LocalDate yesterday = LocalDate.now().minusDays(1);
-        HotTrendRequestDto requestDto = HotTrendRequestDto.builder().searchDt(yesterday.toString()).build();
+        TrendSnapshot<HotTrendResponseDto> snapshot = trendSnapshotService.get(TrendSnapshotType.HOT_TREND, Map.of());
 
-        LinkedList<HotTrendResponseDto> response = bookService.hotTrend(requestDto);
-        response = RandomPicker.randomPick(response, 10); // 10개 랜덤 추출
-        return responseTemplate.success(response, HttpStatus.OK);
+        LinkedList<HotTrendResponseDto> response = snapshot.sample(10); // 10개 랜덤 추출
+        return responseTemplate.success(response, HttpStatus.OK, snapshot.getAgeSeconds());
     }
 
     // 지난달 키워드 (17)
@@ -85,12 +80,10 @@ public class BookController {
                         description = MonthlyKeywordsResponseDto.description)})
     @GetMapping("/keyword")
     public ResponseEntity<?> keywords() throws Exception {
-        MonthlyKeywordsRequestDto requestDto = new MonthlyKeywordsRequestDto();
-        requestDto.setSearchDt();
-
-        LinkedList<MonthlyKeywordsResponseDto> response = bookService.keywords(requestDto);
+        TrendSnapshot<MonthlyKeywordsResponseDto> snapshot = trendSnapshotService.get(TrendSnapshotType.KEYWORDS, Map.of());
 
-        return responseTemplate.success(response, HttpStatus.OK);
+        LinkedList<MonthlyKeywordsResponseDto> response = snapshot.sample(10); // 요청마다 10개 랜덤 추출
+        return responseTemplate.success(response, HttpStatus.OK, snapshot.getAgeSeconds());
     }
 
     // 조건형 인기 대출 책 (3)
@@ -112,12 +105,16 @@ public class BookController {
                                             @RequestParam(required = false) String gender,
                                             @RequestParam(required = false) String genreCode,
                                             @RequestParam(required = false) String region,
-                                            @RequestParam(required = false) String libCode) throws Exception {
-        RequestLogger.param(new String[]{"weekMonth", "peerAge", "ageRange", "gender", "genreCode", "region", "libCode"},
-                weekMonth, peerAge, ageRange, gender, genreCode, region, libCode);
-        LoanItemSrchRequestDto requestDto = requestValidate.set_validLoanItemSrchRequest(weekMonth, peerAge, ageRange, gender, genreCode, region, libCode);
+                                            @RequestParam(required = false) String libCode,
+                                            HttpServletRequest request) throws Exception {
+        String[] keys = {"weekMonth", "peerAge", "ageRange", "gender", "genreCode", "region", "libCode"};
+        RequestLogger.param(keys, weekMonth, peerAge, ageRange, gender, genreCode, region, libCode);
+        requestValidate.set_validLoanItemSrchRequest(weekMonth, peerAge, ageRange, gender, genreCode, region, libCode); // 파라미터 검증
 
-        LinkedList<LoanItemSrchResponseDto> response = bookService.loanItemSrch(requestDto);
-        return responseTemplate.success(response, HttpStatus.OK);
+        TrendSnapshot<LoanItemSrchResponseDto> snapshot = trendSnapshotService.get(TrendSnapshotType.CUSTOM_HOT_TREND,
+                TrendSnapshotService.params(keys, weekMonth, peerAge, ageRange, gender, genreCode, region, libCode));
+
+        return responseTemplate.shared(request, snapshot.getETag(), ResponseCachePolicy.TREND,
+                () -> responseTemplate.success(new LinkedList<>(snapshot.getItems()), HttpStatus.OK, snapshot.getAgeSeconds()));
     }
 }
@@ -2,12 +2,14 @@ package com.book.backend.domain.book.entity;
 
 import com.book.backend.domain.genre.entity.Genre;
 import com.book.backend.domain.opentalk.entity.Opentalk;
+import com.book.backend.domain.opentalk.service.BookChangeListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
 @Table(name = "book")
+@EntityListeners(BookChangeListener.class) // 책 정보가 바뀌면 오픈톡 카드 캐시에서 제외
 @Getter
 @Setter
 public class Book {
@@ -19,8 +21,12 @@ public class Book {
 
     private String bookname;
 
+    private String authors;
+
     private String bookImageURL;
 
+    private Integer pageCount; // 사용자가 목표를 만들 때 입력한 총 페이지 수 (OpenAPI 에서는 제공하지 않음)
+
     @OneToOne(mappedBy = "book", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Opentalk opentalk;
 }
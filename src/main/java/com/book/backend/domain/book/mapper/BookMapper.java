@@ -2,6 +2,7 @@ package com.book.backend.domain.book.mapper;
 
 import com.book.backend.domain.book.dto.BookSummaryDto;
 import com.book.backend.domain.book.dto.BookInfoDto;
+import com.book.backend.domain.book.entity.Book;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -17,4 +18,13 @@ public class BookMapper {
                 .imageUrl(bookInfoDto.getBookImageURL())
                 .build();
     }
+
+    public BookSummaryDto convertToBookSummaryDto(Book book) {
+        return BookSummaryDto.builder()
+                .isbn(book.getIsbn())
+                .title(book.getBookname())
+                .author(book.getAuthors())
+                .imageUrl(book.getBookImageURL())
+                .build();
+    }
 }
@@ -4,7 +4,11 @@ import com.book.backend.domain.book.entity.Book;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface BookRepository extends JpaRepository<Book, Long> {
     Book findByIsbn(String isbn);
+    List<Book> findAllByIsbnIn(Collection<String> isbns);
 }
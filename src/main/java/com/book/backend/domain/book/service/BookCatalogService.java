@@ -0,0 +1,174 @@
+package com.book.backend.domain.book.service;
+
+import com.book.backend.domain.book.dto.BookInfoDto;
+import com.book.backend.domain.book.entity.Book;
+import com.book.backend.domain.book.repository.BookRepository;
+import com.book.backend.domain.openapi.service.OpenAPIStreamParser;
+import com.book.backend.domain.opentalk.service.OpentalkCardCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/*
+    로컬 책 카탈로그 (book 테이블 : isbn, 책이름, 작가, 표지 URL, 페이지 수)
+    OpenAPI 응답에 책 정보가 있으면 백그라운드 스레드에서 저장(write-through)해두고,
+    목표, 오픈톡, 사용자 책 목록은 OpenAPI 호출 없이 isbn 목록으로 한 번에 조회
+
+    저장 방식
+    - 응답 하나의 책 중 새로 나왔거나 바뀐 책만 골라 UPSERT_BATCH_SIZE 행씩 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 저장
+      (장르, 대출 순위 응답은 책이 최대 1200 권이라 행마다 저장하면 writer 가 밀림)
+    - isbn 은 unique 이므로 오픈톡 생성과 동시에 같은 isbn 을 저장해도 행이 하나만 생김
+    - JDBC 로 저장하므로 BookChangeListener 가 호출되지 않음, 바뀐 책의 오픈톡 카드는 여기서 캐시에서 제외
+
+    저장 대기열이 가득 차면 그 응답의 책은 저장하지 않음 (book.catalog.write.dropped 로 집계)
+    카탈로그는 OpenAPI 조회를 줄이기 위한 것이라 빠진 책은 조회하는 쪽에서 OpenAPI 로 대신 조회하고,
+    같은 책이 다음 응답 (캐시 만료 후 다시 호출한 응답 포함) 에 나오면 그때 저장됨
+*/
+@Service
+@Slf4j
+public class BookCatalogService {
+    private static final int WRITE_QUEUE_SIZE = 100; // 저장 대기 중인 응답 수, 초과하면 저장하지 않음 (다음 응답에서 다시 저장)
+    private static final int UPSERT_BATCH_SIZE = 500; // INSERT 한 번에 저장할 최대 행 수
+    private static final String UPSERT_PREFIX = "INSERT INTO book (isbn, bookname, authors, book_imageurl) VALUES ";
+    private static final String UPSERT_ROW = "(?, ?, ?, ?)";
+    // 비어 있는 값으로 기존 값을 지우지 않음 (오픈톡 생성 시에는 작가 정보가 없음)
+    private static final String UPSERT_SUFFIX = " AS new ON DUPLICATE KEY UPDATE"
+            + " bookname = COALESCE(new.bookname, book.bookname),"
+            + " authors = COALESCE(new.authors, book.authors),"
+            + " book_imageurl = COALESCE(new.book_imageurl, book.book_imageurl)";
+    private static final String UPDATE_PAGE_COUNT = "UPDATE book SET page_count = ? WHERE isbn = ?";
+
+    private final BookRepository bookRepository;
+    private final OpenAPIStreamParser streamParser;
+    private final JdbcTemplate jdbcTemplate;
+    private final OpentalkCardCache opentalkCardCache;
+    private final Counter droppedCounter;
+    private final ThreadPoolExecutor writeExecutor;
+
+    public BookCatalogService(BookRepository bookRepository, OpenAPIStreamParser streamParser,
+                              JdbcTemplate jdbcTemplate, OpentalkCardCache opentalkCardCache,
+                              MeterRegistry meterRegistry) {
+        this.bookRepository = bookRepository;
+        this.streamParser = streamParser;
+        this.jdbcTemplate = jdbcTemplate;
+        this.opentalkCardCache = opentalkCardCache;
+        this.droppedCounter = meterRegistry.counter("book.catalog.write.dropped");
+        this.writeExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(WRITE_QUEUE_SIZE),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "book-catalog-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> {
+                    droppedCounter.increment();
+                    log.warn("책 카탈로그 저장 대기열이 가득 차서 저장하지 않습니다.");
+                });
+    }
+
+    // isbn 목록으로 한 번에 조회 (key : isbn), 카탈로그에 없는 isbn 은 포함되지 않음
+    public Map<String, Book> findAllByIsbn(Collection<String> isbns) {
+        log.trace("BookCatalogService > findAllByIsbn()");
+        Map<String, Book> books = new HashMap<>();
+        if (isbns.isEmpty()) {
+            return books;
+        }
+        for (Book book : bookRepository.findAllByIsbnIn(isbns)) {
+            books.putIfAbsent(book.getIsbn(), book);
+        }
+        return books;
+    }
+
+    // OpenAPI 응답에 있는 책 정보 저장 (파싱, 저장 모두 writer 스레드에서 처리해서 호출 스레드를 기다리게 하지 않음)
+    public void saveAsync(String body) {
+        writeExecutor.execute(() -> {
+            try {
+                List<BookInfoDto> bookInfos = streamParser.books(body);
+                if (!bookInfos.isEmpty()) {
+                    upsert(bookInfos);
+                }
+            } catch (Exception e) { // 카탈로그 저장 실패는 응답에 영향 없음
+                log.warn("책 카탈로그를 저장하지 못했습니다: " + e.getMessage());
+            }
+        });
+    }
+
+    // 책 한 권을 바로 저장 (호출한 쪽 트랜잭션에서 실행, 저장 후 findByIsbn 으로 조회)
+    public void save(String isbn, String bookname, String authors, String bookImageURL) {
+        log.trace("BookCatalogService > save()");
+        jdbcTemplate.update(UPSERT_PREFIX + UPSERT_ROW + UPSERT_SUFFIX, isbn, bookname, authors, bookImageURL);
+        opentalkCardCache.evictByIsbn(isbn);
+    }
+
+    // 목표 생성 시 입력한 총 페이지 수 저장 (이미 카탈로그에 있는 책만 수정, 책 정보 없이 isbn 과 페이지 수만 있는 행은 만들지 않음)
+    // 목표를 만들기 전에 조회한 상세 화면 응답이 같은 writer 스레드에서 먼저 저장되므로 대부분 이미 행이 있음
+    public void savePageCountAsync(String isbn, Integer pageCount) {
+        writeExecutor.execute(() -> {
+            try {
+                if (jdbcTemplate.update(UPDATE_PAGE_COUNT, pageCount, isbn) == 0) {
+                    log.trace("카탈로그에 없는 책이라 페이지 수를 저장하지 않습니다: " + isbn);
+                }
+            } catch (Exception e) {
+                log.warn("책 페이지 수를 저장하지 못했습니다: " + e.getMessage());
+            }
+        });
+    }
+
+    private void upsert(List<BookInfoDto> bookInfos) {
+        Map<String, BookInfoDto> latest = new LinkedHashMap<>(); // 같은 응답 안의 중복 isbn 제거
+        for (BookInfoDto bookInfo : bookInfos) {
+            latest.put(bookInfo.getIsbn13(), bookInfo);
+        }
+
+        // 바뀐 내용이 없는 책은 저장하지 않음
+        Map<String, Book> existing = findAllByIsbn(latest.keySet());
+        List<BookInfoDto> changed = new ArrayList<>();
+        latest.forEach((isbn, bookInfo) -> {
+            Book book = existing.get(isbn);
+            if (book != null
+                    && Objects.equals(book.getBookname(), bookInfo.getBookname())
+                    && Objects.equals(book.getAuthors(), bookInfo.getAuthors())
+                    && Objects.equals(book.getBookImageURL(), bookInfo.getBookImageURL())) {
+                return;
+            }
+            changed.add(bookInfo);
+        });
+
+        for (int from = 0; from < changed.size(); from += UPSERT_BATCH_SIZE) {
+            List<BookInfoDto> batch = changed.subList(from, Math.min(from + UPSERT_BATCH_SIZE, changed.size()));
+            List<Object> args = new ArrayList<>(batch.size() * 4);
+            StringBuilder sql = new StringBuilder(UPSERT_PREFIX);
+            for (BookInfoDto bookInfo : batch) {
+                if (!args.isEmpty()) {
+                    sql.append(", ");
+                }
+                sql.append(UPSERT_ROW);
+                args.add(bookInfo.getIsbn13());
+                args.add(bookInfo.getBookname());
+                args.add(bookInfo.getAuthors());
+                args.add(bookInfo.getBookImageURL());
+            }
+            jdbcTemplate.update(sql.append(UPSERT_SUFFIX).toString(), args.toArray());
+            opentalkCardCache.evictByIsbns(batch.stream().map(BookInfoDto::getIsbn13).toList());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writeExecutor.shutdown();
+    }
+}
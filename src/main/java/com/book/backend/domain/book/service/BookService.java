@@ -8,12 +8,19 @@ import com.book.backend.domain.openapi.dto.response.HotTrendResponseDto;
 import com.book.backend.domain.openapi.dto.response.LoanItemSrchResponseDto;
 import com.book.backend.domain.openapi.dto.response.MonthlyKeywordsResponseDto;
 import com.book.backend.domain.openapi.dto.response.RecommendListResponseDto;
+import com.book.backend.domain.openapi.entity.OpenAPIEndpoint;
 import com.book.backend.domain.openapi.service.OpenAPI;
+import com.book.backend.domain.openapi.service.RandomPicker;
 import com.book.backend.domain.openapi.service.ResponseParser;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
@@ -25,32 +32,58 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 @Slf4j
 public class BookService {
+    private static final int RECOMMEND_CACHE_MAX_SIZE = 5000; // 추천 후보를 캐시할 isbn 수
     private final OpenAPI openAPI;
+    private final ResponseParser responseParser;
+    private final Cache<String, List<RecommendListResponseDto>> recommendCandidateCache = Caffeine.newBuilder()
+            .maximumSize(RECOMMEND_CACHE_MAX_SIZE)
+            .expireAfterWrite(OpenAPIEndpoint.RECOMMEND_LIST.getCacheTtl()) // 추천 목록 응답 캐시와 같은 주기로 갱신
+            .build();
 
+    // 추천 도서 후보(마니아 + 다독자, 중복 제거)를 isbn 별로 캐시해두고, 매 요청마다 후보 중 10개를 랜덤 추출
     public LinkedList<RecommendListResponseDto> recommend(RecommendListRequestDto requestDto) throws Exception {
         log.trace("BookService > recommend()");
-        String subUrl = "recommandList";
+        String isbn = requestDto.getIsbn13();
 
-        LinkedList<RecommendListResponseDto> responseList = new LinkedList<>();
+        List<RecommendListResponseDto> candidates = recommendCandidateCache.getIfPresent(isbn);
+        if (candidates == null) {
+            candidates = loadRecommendCandidates(isbn);
+            if (!candidates.isEmpty()) {
+                recommendCandidateCache.put(isbn, candidates);
+            }
+        }
+        return RandomPicker.randomPick(new LinkedList<>(candidates), 10); // 10개 랜덤 추출 (캐시된 후보 리스트는 그대로 둠)
+    }
 
-        requestDto.setType("mania");
-        JSONObject maniaJsonResponse = openAPI.connect(subUrl, requestDto, new RecommendListResponseDto(), 1);
-        ResponseParser maniaResponseParser = new ResponseParser();
-        responseList.addAll(maniaResponseParser.recommend(maniaJsonResponse));
+    // 마니아, 다독자 추천을 각각의 request 로 동시에 요청
+    private List<RecommendListResponseDto> loadRecommendCandidates(String isbn) throws Exception {
+        log.trace("BookService > loadRecommendCandidates()");
+        String subUrl = "recommandList";
+
+        RecommendListRequestDto maniaRequestDto = RecommendListRequestDto.builder().isbn13(isbn).type("mania").build();
+        RecommendListRequestDto readerRequestDto = RecommendListRequestDto.builder().isbn13(isbn).type("reader").build();
+        CompletableFuture<JSONObject> maniaFuture = openAPI.connectAsync(subUrl, maniaRequestDto, new RecommendListResponseDto(), 1);
+        CompletableFuture<JSONObject> readerFuture = openAPI.connectAsync(subUrl, readerRequestDto, new RecommendListResponseDto(), 1);
 
-        requestDto.setType("reader");
-        JSONObject readerJsonResponse = openAPI.connect(subUrl, requestDto, new RecommendListResponseDto(), 1);
-        ResponseParser readerResponseParser = new ResponseParser();
-        responseList.addAll(readerResponseParser.recommend(readerJsonResponse));
+        LinkedList<RecommendListResponseDto> responseList = new LinkedList<>();
+        try {
+            responseList.addAll(responseParser.recommend(maniaFuture.join()));
+            responseList.addAll(responseParser.recommend(readerFuture.join()));
+        } catch (CompletionException e) {
+            maniaFuture.cancel(true);
+            readerFuture.cancel(true);
+            throw (e.getCause() instanceof Exception exception) ? exception : e;
+        }
 
-        return responseList;
+        return List.copyOf(duplicateChecker(responseList, new HashSet<>()));
     }
 
+    // ISBN 기준 중복 제거 (ISBN 이 없으면 책이름 + 작가)
     public LinkedList<RecommendListResponseDto> duplicateChecker(LinkedList<RecommendListResponseDto> list, HashSet<String> set){
         log.trace("BookService > duplicateChecker()");
         LinkedList<RecommendListResponseDto> duplicateRemovedList = new LinkedList<>();
         for(RecommendListResponseDto dto : list){
-            String key = dto.getBookname() + dto.getAuthors();
+            String key = (dto.getIsbn13() != null && !dto.getIsbn13().isBlank()) ? dto.getIsbn13() : dto.getBookname() + dto.getAuthors();
             if(set.add(key)) duplicateRemovedList.add(dto);
         }
         return duplicateRemovedList;
@@ -60,7 +93,6 @@ public class BookService {
         log.trace("BookService > hotTrend()");
         String subUrl = "hotTrend";
         JSONObject jsonResponse = openAPI.connect(subUrl, requestDto, new HotTrendResponseDto(), 1);
-        ResponseParser responseParser = new ResponseParser();
         return responseParser.hotTrend(jsonResponse);
     }
 
@@ -68,7 +100,6 @@ public class BookService {
         log.trace("BookService > keywords()");
         String subUrl = "monthlyKeywords";
         JSONObject jsonResponse = openAPI.connect(subUrl, requestDto, new MonthlyKeywordsResponseDto(), 1);
-        ResponseParser responseParser = new ResponseParser();
         return responseParser.keywords(jsonResponse);
     }
 
@@ -77,7 +108,6 @@ public class BookService {
         String subUrl = "loanItemSrch";
         requestDto.setPageSize("25");
         JSONObject jsonResponse = openAPI.connect(subUrl, requestDto, new LoanItemSrchResponseDto(), 1);
-        ResponseParser responseParser = new ResponseParser();
         LinkedList<LoanItemSrchResponseDto> responseList = responseParser.loanItemSrch(jsonResponse);
         return responseParser.customPageFilter(responseList, "1", "10");
     }
@@ -2,9 +2,7 @@ package com.book.backend.domain.detail.controller;
 
 import com.book.backend.domain.openapi.service.RequestValidate;
 import com.book.backend.domain.detail.service.DetailService;
-import com.book.backend.domain.openapi.dto.request.DetailRequestDto;
 import com.book.backend.domain.openapi.dto.response.DetailResponseDto;
-import com.book.backend.domain.userBook.service.UserBookService;
 import com.book.backend.global.ResponseTemplate;
 import com.book.backend.global.log.RequestLogger;
 import io.swagger.v3.oas.annotations.Operation;
@@ -32,7 +30,6 @@ public class DetailController {
     private final DetailService detailService;
     private final RequestValidate requestValidate;
     private final ResponseTemplate responseTemplate;
-    private final UserBookService userBookService;
 
     // 도서 상세 (8) API
     @Operation(summary="책 상세", description="특정 책 코드를 입력으로 받아 해당 책 상세 정보, 대출 주 연령대, 키워드, 같이 대출한 도서, 추천 도서를 반환합니다.",
@@ -44,13 +41,8 @@ public class DetailController {
         RequestLogger.param(new String[]{"isbn"}, isbn);
         requestValidate.isValidIsbn(isbn);
 
-        DetailRequestDto requestDto = DetailRequestDto.builder().isbn13(isbn).build();
-        DetailResponseDto response = detailService.detail(requestDto);
-        response.setLoanAvailableList(detailService.getLoanAvailable(isbn));
-
-        // 찜 여부, 읽은 책 여부
-        response.setDibs(userBookService.isDibs(isbn));
-        response.setFavorite(userBookService.isFavorite(isbn));
+        // 상세 정보, 대출 가능 여부, 찜 여부, 읽은 책 여부를 동시에 조회
+        DetailResponseDto response = detailService.detailPage(isbn);
 
         return responseTemplate.success(response, HttpStatus.OK);
     }
@@ -9,4 +9,5 @@ public class LoanAvailableDto {
     private String libCode;
     private String libName;
     private boolean isLoanable;
+    private LoanAvailableStatus status; // OK 가 아니면 isLoanable 은 false
 }
@@ -0,0 +1,7 @@
+package com.book.backend.domain.detail.dto;
+
+public enum LoanAvailableStatus {
+    OK, // 조회 성공
+    TIMEOUT, // 응답 대기 시간 초과 (대출 가능 여부 알 수 없음)
+    ERROR // 도서관 코드 오류 등으로 조회 실패
+}
@@ -1,7 +1,10 @@
 package com.book.backend.domain.detail.service;
 
+import com.book.backend.domain.book.dto.BookInfoDto;
+import com.book.backend.domain.book.entity.Book;
 import com.book.backend.domain.book.repository.BookRepository;
 import com.book.backend.domain.detail.dto.LoanAvailableDto;
+import com.book.backend.domain.detail.dto.LoanAvailableStatus;
 import com.book.backend.domain.openapi.dto.request.BookExistRequestDto;
 import com.book.backend.domain.openapi.dto.request.DetailRequestDto;
 import com.book.backend.domain.openapi.dto.response.BookExistResponseDto;
@@ -12,14 +15,20 @@ import com.book.backend.domain.openapi.service.ResponseParser;
 
 import java.util.List;
 import java.util.LinkedList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 import com.book.backend.domain.opentalk.repository.OpentalkRepository;
+import com.book.backend.domain.user.dto.LibraryDto;
 import com.book.backend.domain.user.service.UserService;
+import com.book.backend.domain.userBook.service.UserBookService;
 import com.book.backend.exception.CustomException;
 import com.book.backend.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.book.backend.domain.user.entity.User;
@@ -30,51 +39,151 @@ import com.book.backend.domain.user.entity.User;
 @Slf4j
 public class DetailService {
     private final OpenAPI openAPI;
+    private final ResponseParser responseParser;
     private final UserService userService;
     private final OpentalkRepository opentalkRepository;
     private final BookRepository bookRepository;
+    private final UserBookService userBookService;
+
+    @Value("${detail.deadlineMillis}")
+    private long deadlineMillis; // 책 상세 화면 전체 응답 최대 대기 시간
+
+    @Value("${detail.loanAvailableDeadlineMillis}")
+    private long loanAvailableDeadlineMillis; // 도서관별 대출 가능 여부 조회를 기다리는 최대 시간
 
     public DetailResponseDto detail(DetailRequestDto requestDto) throws Exception {
         log.trace("DetailService > detail()");
         String subUrl = "usageAnalysisList";
         JSONObject jsonResponse = openAPI.connect(subUrl, requestDto, new SearchResponseDto(), 1);
-        ResponseParser responseParser = new ResponseParser();
         return responseParser.detail(jsonResponse);
     }
 
-    public List<LoanAvailableDto> getLoanAvailable(String isbn) {
-        log.trace("DetailService > getLoanAvailable()");
+    public CompletableFuture<DetailResponseDto> detailAsync(DetailRequestDto requestDto) {
+        log.trace("DetailService > detailAsync()");
+        String subUrl = "usageAnalysisList";
+        return openAPI.connectAsync(subUrl, requestDto, new SearchResponseDto(), 1)
+                .thenApply(jsonResponse -> responseParser.detail(jsonResponse));
+    }
+
+    /*
+        책 상세 화면 전체 (상세 정보 + 도서관별 대출 가능 여부 + 찜/읽은 책 여부)
+        상세 정보 요청을 먼저 보내두고, 그동안 사용자 조회(1회)와 대출 가능 여부 요청을 진행해서 deadlineMillis 안에 합침
+        deadline 까지 오지 않은 부분은 빼고 응답 (상세 정보는 카탈로그 정보로, 대출 가능 여부는 빈 목록으로 대체)
+    */
+    public DetailResponseDto detailPage(String isbn) throws Exception {
+        log.trace("DetailService > detailPage()");
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+
+        CompletableFuture<DetailResponseDto> detailFuture = detailAsync(DetailRequestDto.builder().isbn13(isbn).build());
 
+        // 사용자 조회는 SecurityContext 가 있는 요청 스레드에서
         User user = userService.loadLoggedinUser();
         if (user == null) {
+            detailFuture.cancel(true);
             throw new CustomException(ErrorCode.USER_NOT_FOUND);
         }
-        List<LoanAvailableDto> loanAvailableList = new LinkedList<>();
-        if(!user.getLibraries().isEmpty()) {
-            user.getLibraries().forEach(libraryDto -> {
-                try {
-                    BookExistRequestDto bookExistRequestDto = BookExistRequestDto.builder()
-                            .libCode(libraryDto.getCode())
-                            .isbn13(isbn).build();
-
-                    String subUrl = "bookExist";
-                    JSONObject jsonResponse = openAPI.connect(subUrl, bookExistRequestDto, new BookExistResponseDto(), 1);
-                    ResponseParser responseParser = new ResponseParser();
-                    boolean isLoanable = responseParser.loanAvailable(jsonResponse);
-
-                    LoanAvailableDto dto = LoanAvailableDto.builder()
-                            .libCode(libraryDto.getCode())
-                            .libName(libraryDto.getName())
-                            .isLoanable(isLoanable)
-                            .build();
-                    loanAvailableList.add(dto);
-                } catch (Exception e) {
-                    throw new RuntimeException(new CustomException(ErrorCode.LIBCODE_ERROR));
-                }
-            });
+        CompletableFuture<List<LoanAvailableDto>> loanAvailableFuture = getLoanAvailableAsync(user.getLibraries(), isbn);
+        boolean isDibs = userBookService.isDibs(user, isbn);
+        boolean isFavorite = userBookService.isFavorite(user, isbn);
+
+        // 각 부분을 남은 시간까지만 기다리고, 오지 않은 부분은 null (기다리지 못한 요청도 끝나면 응답 캐시에 저장됨)
+        long remainingNanos = Math.max(deadlineNanos - System.nanoTime(), 0);
+        detailFuture.completeOnTimeout(null, remainingNanos, TimeUnit.NANOSECONDS);
+        loanAvailableFuture.completeOnTimeout(null, remainingNanos, TimeUnit.NANOSECONDS);
+
+        DetailResponseDto response;
+        try {
+            response = detailFuture.join();
+        } catch (CompletionException e) {
+            loanAvailableFuture.cancel(true);
+            if (e.getCause() instanceof Exception exception) {
+                throw exception;
+            }
+            throw e;
+        }
+        if (response == null) {
+            log.warn("책 상세 정보가 " + deadlineMillis + "ms 안에 오지 않아 카탈로그 정보로 응답합니다. (" + isbn + ")");
+            response = partialDetail(isbn);
         }
-        return loanAvailableList;
+
+        List<LoanAvailableDto> loanAvailableList = loanAvailableFuture.join();
+        response.setLoanAvailableList(loanAvailableList != null ? loanAvailableList : new LinkedList<>());
+        response.setDibs(isDibs);
+        response.setFavorite(isFavorite);
+        return response;
     }
 
+    // 상세 정보 없이 로컬 카탈로그의 책 정보 (없으면 ISBN) 만 채운 응답 (대출 분석 목록은 비움)
+    private DetailResponseDto partialDetail(String isbn) {
+        BookInfoDto.BookInfoDtoBuilder bookInfo = BookInfoDto.builder().isbn13(isbn);
+        Book book = bookRepository.findByIsbn(isbn);
+        if (book != null) {
+            bookInfo.bookname(book.getBookname())
+                    .authors(book.getAuthors())
+                    .bookImageURL(book.getBookImageURL());
+        }
+        return DetailResponseDto.builder()
+                .bookInfoDto(bookInfo.build())
+                .top3LoanUserDtoList(new LinkedList<>())
+                .keywordDtoList(new LinkedList<>())
+                .coLoanBooksDtoList(new LinkedList<>())
+                .recommendResponseDtoList(new LinkedList<>())
+                .build();
+    }
+
+    /*
+        저장한 도서관별 대출 가능 여부를 동시에 조회
+        loanAvailableDeadlineMillis 안에 응답하지 않은 도서관은 TIMEOUT, 조회에 실패한 도서관은 ERROR 상태로 반환 (나머지 결과는 유지)
+        bookExist 응답은 OpenAPI 응답 캐시에 (libCode, isbn) 별로 짧게 캐시됨
+    */
+    public CompletableFuture<List<LoanAvailableDto>> getLoanAvailableAsync(List<LibraryDto> libraries, String isbn) {
+        log.trace("DetailService > getLoanAvailableAsync()");
+        if (libraries == null || libraries.isEmpty()) {
+            return CompletableFuture.completedFuture(new LinkedList<>());
+        }
+
+        List<CompletableFuture<LoanAvailableDto>> futures = libraries.stream()
+                .map(libraryDto -> loanAvailable(libraryDto, isbn))
+                .toList();
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .completeOnTimeout(null, loanAvailableDeadlineMillis, TimeUnit.MILLISECONDS)
+                .thenApply(ignored -> {
+                    List<LoanAvailableDto> loanAvailableList = new LinkedList<>();
+                    for (int i = 0; i < futures.size(); i++) {
+                        LoanAvailableDto dto = futures.get(i).getNow(null);
+                        if (dto == null) { // deadline 까지 응답 없음
+                            futures.get(i).cancel(true);
+                            dto = loanAvailableDto(libraries.get(i), false, LoanAvailableStatus.TIMEOUT);
+                        }
+                        loanAvailableList.add(dto);
+                    }
+                    return loanAvailableList;
+                });
+    }
+
+    private CompletableFuture<LoanAvailableDto> loanAvailable(LibraryDto libraryDto, String isbn) {
+        BookExistRequestDto bookExistRequestDto = BookExistRequestDto.builder()
+                .libCode(libraryDto.getCode())
+                .isbn13(isbn).build();
 
+        String subUrl = "bookExist";
+        return openAPI.connectAsync(subUrl, bookExistRequestDto, new BookExistResponseDto(), 1)
+                .thenApply(jsonResponse -> {
+                    return loanAvailableDto(libraryDto, responseParser.loanAvailable(jsonResponse), LoanAvailableStatus.OK);
+                })
+                .exceptionally(e -> {
+                    log.warn("도서관 대출 가능 여부를 조회하지 못했습니다. (" + libraryDto.getCode() + ", " + isbn + ") " + e.getMessage());
+                    return loanAvailableDto(libraryDto, false, LoanAvailableStatus.ERROR);
+                });
+    }
+
+    private LoanAvailableDto loanAvailableDto(LibraryDto libraryDto, boolean isLoanable, LoanAvailableStatus status) {
+        return LoanAvailableDto.builder()
+                .libCode(libraryDto.getCode())
+                .libName(libraryDto.getName())
+                .isLoanable(isLoanable)
+                .status(status)
+                .build();
+    }
 }
@@ -1,9 +1,12 @@
 package com.book.backend.domain.genre.controller;
 
-import com.book.backend.domain.genre.service.GenreService;
-import com.book.backend.domain.openapi.dto.request.LoanItemSrchRequestDto;
 import com.book.backend.domain.openapi.dto.response.LoanItemSrchResponseDto;
 import com.book.backend.domain.openapi.service.RequestValidate;
+import com.book.backend.domain.trend.dto.TrendPage;
+import com.book.backend.domain.trend.dto.TrendSnapshot;
+import com.book.backend.domain.trend.entity.TrendSnapshotType;
+import com.book.backend.domain.trend.service.TrendSnapshotService;
+import com.book.backend.global.ResponseCachePolicy;
 import com.book.backend.global.ResponseTemplate;
 import com.book.backend.global.log.RequestLogger;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,6 +15,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -19,6 +23,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.LinkedList;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/genre")
@@ -26,54 +31,60 @@ import java.util.LinkedList;
 @Slf4j
 @Tag(name="장르", description = "이번 주 인기 도서 / 무작위순 / 신작 인기순 / 일주일 인기순 / 한 달 인기순")
 public class GenreController {
-    private final GenreService genreService;
     private final RequestValidate requestValidate;
     private final ResponseTemplate responseTemplate;
+    private final TrendSnapshotService trendSnapshotService;
 
     // 일주일 인기순
     @Operation(summary = "일주일 인기순", description = "장르 코드(2자리)를 입력받아 1주일 인기순 도서 리스트를 반환합니다.",
             parameters = {
                     @Parameter(name = "genreCode", description = "세부 장르 코드 (필수, figma 참고)"),
-                    @Parameter(name = "pageNo", description = "페이지 번호 (필수)"),
-                    @Parameter(name = "pageSize", description = "페이지 당 요소 수 (필수)")},
+                    @Parameter(name = "pageNo", description = "페이지 번호 (선택, 기본값 1, cursor 가 있으면 무시)"),
+                    @Parameter(name = "pageSize", description = "페이지 당 요소 수 (필수)"),
+                    @Parameter(name = "cursor", description = "이전 응답의 nextCursor (선택, 같은 순위 목록에서 다음 페이지를 반환)")},
             responses = {@ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = LoanItemSrchResponseDto.class)),
                     description = LoanItemSrchResponseDto.description)})
     @GetMapping("/aWeekTrend")
     public ResponseEntity<?> aWeekTrend(@RequestParam String genreCode,
-                                        @RequestParam String pageNo,
-                                        @RequestParam String pageSize) throws Exception {
-        RequestLogger.param(new String[]{"kdcNum"}, genreCode);
+                                        @RequestParam(required = false) String pageNo,
+                                        @RequestParam String pageSize,
+                                        @RequestParam(required = false) String cursor,
+                                        HttpServletRequest request) throws Exception {
+        RequestLogger.param(new String[]{"kdcNum", "pageNo", "pageSize", "cursor"}, genreCode, pageNo, pageSize, cursor);
         requestValidate.isValidGenreCode(genreCode);
 
-        LoanItemSrchRequestDto requestDto = LoanItemSrchRequestDto.builder()
-                .dtl_kdc(genreCode)
-                .build();
-        LinkedList<LoanItemSrchResponseDto> response = genreService.periodToNowTrend(requestDto, 7, pageNo, pageSize);
+        TrendPage<LoanItemSrchResponseDto> page = trendSnapshotService.page(TrendSnapshotType.A_WEEK_TREND,
+                Map.of("genreCode", genreCode), cursor, pageNo, pageSize);
+        LinkedList<LoanItemSrchResponseDto> response = page.getItems();
 
-        return responseTemplate.success(response, HttpStatus.OK);
+        return responseTemplate.shared(request, page.getETag(), ResponseCachePolicy.TREND,
+                () -> responseTemplate.success(response, HttpStatus.OK, page.getSnapshotAge(), page.getNextCursor()));
     }
 
     // 한 달 인기순
     @Operation(summary = "한 달 인기순", description = "장르 코드(2자리)를 입력받아 한 달 인기순 도서 리스트를 반환합니다.",
             parameters = {
                     @Parameter(name = "genreCode", description = "세부 장르 코드 (필수, figma 참고)"),
-                    @Parameter(name = "pageNo", description = "페이지 번호 (필수)"),
-                    @Parameter(name = "pageSize", description = "페이지 당 요소 수 (필수)")},
+                    @Parameter(name = "pageNo", description = "페이지 번호 (선택, 기본값 1, cursor 가 있으면 무시)"),
+                    @Parameter(name = "pageSize", description = "페이지 당 요소 수 (필수)"),
+                    @Parameter(name = "cursor", description = "이전 응답의 nextCursor (선택, 같은 순위 목록에서 다음 페이지를 반환)")},
             responses = {@ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = LoanItemSrchResponseDto.class)),
                     description = LoanItemSrchResponseDto.description)})
     @GetMapping("/aMonthTrend")
     public ResponseEntity<?> aMonthTrend(@RequestParam String genreCode,
-                                         @RequestParam String pageNo,
-                                         @RequestParam String pageSize) throws Exception {
-        RequestLogger.param(new String[]{"kdcNum"}, genreCode);
+                                         @RequestParam(required = false) String pageNo,
+                                         @RequestParam String pageSize,
+                                         @RequestParam(required = false) String cursor,
+                                         HttpServletRequest request) throws Exception {
+        RequestLogger.param(new String[]{"kdcNum", "pageNo", "pageSize", "cursor"}, genreCode, pageNo, pageSize, cursor);
         requestValidate.isValidGenreCode(genreCode);
 
-        LoanItemSrchRequestDto requestDto = LoanItemSrchRequestDto.builder()
-                .dtl_kdc(genreCode)
-                .build();
-        LinkedList<LoanItemSrchResponseDto> response = genreService.periodToNowTrend(requestDto, 30, pageNo, pageSize);
+        TrendPage<LoanItemSrchResponseDto> page = trendSnapshotService.page(TrendSnapshotType.A_MONTH_TREND,
+                Map.of("genreCode", genreCode), cursor, pageNo, pageSize);
+        LinkedList<LoanItemSrchResponseDto> response = page.getItems();
 
-        return responseTemplate.success(response, HttpStatus.OK);
+        return responseTemplate.shared(request, page.getETag(), ResponseCachePolicy.TREND,
+                () -> responseTemplate.success(response, HttpStatus.OK, page.getSnapshotAge(), page.getNextCursor()));
     }
 
     // 이번 주 인기 도서 (N월 M주차)
@@ -81,23 +92,26 @@ public class GenreController {
             "단, 월요일 또는 화요일이면 저번 주차로, 아니면 이번 주차로 계산됩니다.",
             parameters = {
                     @Parameter(name = "genreCode", description = "세부 장르 코드 (필수, figma 참고)"),
-                    @Parameter(name = "pageNo", description = "페이지 번호 (필수)"),
-                    @Parameter(name = "pageSize", description = "페이지 당 요소 수 (필수)")},
+                    @Parameter(name = "pageNo", description = "페이지 번호 (선택, 기본값 1, cursor 가 있으면 무시)"),
+                    @Parameter(name = "pageSize", description = "페이지 당 요소 수 (필수)"),
+                    @Parameter(name = "cursor", description = "이전 응답의 nextCursor (선택, 같은 순위 목록에서 다음 페이지를 반환)")},
             responses = {@ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = LoanItemSrchResponseDto.class)),
                     description = LoanItemSrchResponseDto.description)})
     @GetMapping("/thisWeekTrend")
     public ResponseEntity<?> thisWeekTrend(@RequestParam String genreCode,
-                                           @RequestParam String pageNo,
-                                           @RequestParam String pageSize) throws Exception {
-        RequestLogger.param(new String[]{"kdcNum"}, genreCode);
+                                           @RequestParam(required = false) String pageNo,
+                                           @RequestParam String pageSize,
+                                           @RequestParam(required = false) String cursor,
+                                           HttpServletRequest request) throws Exception {
+        RequestLogger.param(new String[]{"kdcNum", "pageNo", "pageSize", "cursor"}, genreCode, pageNo, pageSize, cursor);
         requestValidate.isValidGenreCode(genreCode);
 
-        LoanItemSrchRequestDto requestDto = LoanItemSrchRequestDto.builder()
-                .dtl_kdc(genreCode)
-                .build();
-        LinkedList<LoanItemSrchResponseDto> response = genreService.thisWeekTrend(requestDto, pageNo, pageSize);
+        TrendPage<LoanItemSrchResponseDto> page = trendSnapshotService.page(TrendSnapshotType.THIS_WEEK_TREND,
+                Map.of("genreCode", genreCode), cursor, pageNo, pageSize);
+        LinkedList<LoanItemSrchResponseDto> response = page.getItems();
 
-        return responseTemplate.success(response, HttpStatus.OK);
+        return responseTemplate.shared(request, page.getETag(), ResponseCachePolicy.TREND,
+                () -> responseTemplate.success(response, HttpStatus.OK, page.getSnapshotAge(), page.getNextCursor()));
     }
 
     // 무작위순
@@ -114,35 +128,37 @@ public class GenreController {
         RequestLogger.param(new String[]{"kdcNum"}, genreCode);
         requestValidate.isValidGenreCode(genreCode);
 
-        LoanItemSrchRequestDto requestDto = LoanItemSrchRequestDto.builder()
-                .dtl_kdc(genreCode)
-                .build();
-        LinkedList<LoanItemSrchResponseDto> response = genreService.random(requestDto, maxSize);
+        TrendSnapshot<LoanItemSrchResponseDto> snapshot = trendSnapshotService.get(TrendSnapshotType.RANDOM,
+                Map.of("genreCode", genreCode));
+        LinkedList<LoanItemSrchResponseDto> response = snapshot.sample(maxSize);
 
-        return responseTemplate.success(response, HttpStatus.OK);
+        return responseTemplate.success(response, HttpStatus.OK, snapshot.getAgeSeconds());
     }
 
     // 신작 인기순
     @Operation(summary = "신작 인기순", description = "장르 코드(2자리)를 입력받아 최근 2년 내 출판된 인기 도서 리스트를 반환합니다.",
             parameters = {
                     @Parameter(name = "genreCode", description = "세부 장르 코드 (필수, figma 참고)"),
-                    @Parameter(name = "pageNo", description = "페이지 번호 (필수)"),
-                    @Parameter(name = "pageSize", description = "페이지 당 요소 수 (필수)")},
+                    @Parameter(name = "pageNo", description = "페이지 번호 (선택, 기본값 1, cursor 가 있으면 무시)"),
+                    @Parameter(name = "pageSize", description = "페이지 당 요소 수 (필수)"),
+                    @Parameter(name = "cursor", description = "이전 응답의 nextCursor (선택, 같은 순위 목록에서 다음 페이지를 반환)")},
             responses = {@ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = LoanItemSrchResponseDto.class)),
                     description = LoanItemSrchResponseDto.description)})
     @GetMapping("/newTrend")
     public ResponseEntity<?> newTrend(@RequestParam String genreCode,
-                                      @RequestParam String pageNo,
-                                      @RequestParam String pageSize) throws Exception {
-        RequestLogger.param(new String[]{"kdcNum"}, genreCode);
+                                      @RequestParam(required = false) String pageNo,
+                                      @RequestParam String pageSize,
+                                      @RequestParam(required = false) String cursor,
+                                      HttpServletRequest request) throws Exception {
+        RequestLogger.param(new String[]{"kdcNum", "pageNo", "pageSize", "cursor"}, genreCode, pageNo, pageSize, cursor);
         requestValidate.isValidGenreCode(genreCode);
 
-        LoanItemSrchRequestDto requestDto = LoanItemSrchRequestDto.builder()
-                .dtl_kdc(genreCode)
-                .build();
-        LinkedList<LoanItemSrchResponseDto> response = genreService.newTrend(requestDto, pageNo, pageSize);
+        TrendPage<LoanItemSrchResponseDto> page = trendSnapshotService.page(TrendSnapshotType.NEW_TREND,
+                Map.of("genreCode", genreCode), cursor, pageNo, pageSize);
+        LinkedList<LoanItemSrchResponseDto> response = page.getItems();
 
-        return responseTemplate.success(response, HttpStatus.OK);
+        return responseTemplate.shared(request, page.getETag(), ResponseCachePolicy.TREND,
+                () -> responseTemplate.success(response, HttpStatus.OK, page.getSnapshotAge(), page.getNextCursor()));
     }
 
 }
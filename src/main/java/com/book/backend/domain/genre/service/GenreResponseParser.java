@@ -1,72 +1,49 @@
 package com.book.backend.domain.genre.service;
 
 import com.book.backend.domain.openapi.dto.response.LoanItemSrchResponseDto;
-import com.book.backend.domain.openapi.service.RandomPicker;
-import com.book.backend.domain.openapi.service.ResponseParser;
+import com.book.backend.domain.openapi.service.OpenAPIStreamParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.minidev.json.JSONObject;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.function.Predicate;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class GenreResponseParser {
-    private final ResponseParser responseParser;
-    private static final int NEW_TREND_YEAR_OFFSET = 2;  // 최근 트렌드 연도 범위
+    private final OpenAPIStreamParser streamParser;
 
-    public LinkedList<LoanItemSrchResponseDto> periodTrend(JSONObject jsonResponse,
-                                                           String filteredPageNo, String filteredPageSize) {
-        log.trace("GenreResponseParser > periodTrend()");
+    // 중복을 제거한 전체 doc (대출 순위 순서)
+    // 트렌드 스냅샷이 모든 페이지를 보관하므로 limit 없이 끝까지 파싱 (스냅샷을 만들 때 한 번)
+    public LinkedList<LoanItemSrchResponseDto> ranking(String body) {
+        log.trace("GenreResponseParser > ranking()");
 
-        LinkedList<LoanItemSrchResponseDto> filteredResponse = filterResponses(jsonResponse, null, null);
-        return responseParser.customPageFilter(filteredResponse, filteredPageNo, filteredPageSize);
+        return streamParser.docs(body, LoanItemSrchResponseDto.class, duplicateFilter(), 0, Integer.MAX_VALUE);
     }
 
-    public LinkedList<LoanItemSrchResponseDto> random(JSONObject jsonResponse, Integer maxSize) {
-        log.trace("GenreResponseParser > random()");
-
-        LinkedList<LoanItemSrchResponseDto> filteredResponses = filterResponses(jsonResponse, null, maxSize);
-        return RandomPicker.randomPick(filteredResponses, maxSize);
-    }
-
-    public LinkedList<LoanItemSrchResponseDto> newTrend(JSONObject jsonResponse, int currentYear,
-                                                        String filteredPageNo, String filteredPageSize) {
-        log.trace("GenreResponseParser > newTrend()");
-
-        LinkedList<LoanItemSrchResponseDto> filteredResponse = filterResponses(jsonResponse, currentYear, null);
-        return responseParser.customPageFilter(filteredResponse, filteredPageNo, filteredPageSize);
-    }
-
-    private LinkedList<LoanItemSrchResponseDto> filterResponses(JSONObject jsonResponse, Integer yearThreshold, Integer maxSize) {
-        log.trace("GenreResponseParser > filterResponses()");
-
-        LinkedList<LoanItemSrchResponseDto> loanTrendResponseList = responseParser.loanTrend(jsonResponse);
-        LinkedList<LoanItemSrchResponseDto> responseList = new LinkedList<>();
-
-        for (LoanItemSrchResponseDto response : loanTrendResponseList) {
-            if (maxSize != null && responseList.size() >= maxSize) {
-                break;
-            }
-
-            if (yearThreshold != null) {
-                int publicationYear;
-                try {
-                    publicationYear = Integer.parseInt(response.getPublication_year());
-                } catch (NumberFormatException e) {
-                    continue; // 유효하지 않은 년도 데이터는 무시
-                }
-
-                if (publicationYear >= yearThreshold - NEW_TREND_YEAR_OFFSET) {
-                    responseList.add(response);
-                }
-            } else {
-                responseList.add(response);
+    // 숫자로 된 출판년도 (예외 없이 파싱, 유효하지 않은 년도는 Integer.MIN_VALUE 로 연도 조건에서 항상 제외)
+    public int publicationYear(LoanItemSrchResponseDto response) {
+        String value = response.getPublication_year();
+        if (value == null || value.isEmpty() || value.length() > 9) {
+            return Integer.MIN_VALUE;
+        }
+        int year = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return Integer.MIN_VALUE;
             }
+            year = year * 10 + (c - '0');
         }
-        return responseList;
+        return year;
     }
 
+    // 책이름 + 작가가 같은 doc 은 처음 나온 것만 통과
+    private Predicate<LoanItemSrchResponseDto> duplicateFilter() {
+        HashSet<String> duplicateCheckSet = new HashSet<>();
+        return response -> duplicateCheckSet.add(response.getBookname() + response.getAuthors());
+    }
 }
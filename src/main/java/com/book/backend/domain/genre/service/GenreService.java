@@ -4,10 +4,12 @@ import com.book.backend.domain.genre.entity.Genre;
 import com.book.backend.domain.genre.repository.GenreRepository;
 import com.book.backend.domain.openapi.dto.request.LoanItemSrchRequestDto;
 import com.book.backend.domain.openapi.dto.response.LoanItemSrchResponseDto;
+import com.book.backend.domain.openapi.entity.OpenAPIPriority;
 import com.book.backend.domain.openapi.service.OpenAPI;
+import com.book.backend.domain.openapi.service.RandomPicker;
+import com.book.backend.domain.openapi.service.ResponseParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.minidev.json.JSONObject;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +29,9 @@ public class GenreService {
     private final GenreRepository genreRepository;
     private final OpenAPI openAPI;
     private final GenreResponseParser genreResponseParser;
+    private final ResponseParser responseParser;
+    private static final int NEW_TREND_YEAR_OFFSET = 2;  // 최근 트렌드 연도 범위
+    private static final int RANDOM_POOL_SIZE = 300;  // 무작위순 후보 수
 
     public Genre findById(Long id) {
         log.trace("GenreService > findById()");
@@ -87,34 +92,38 @@ public class GenreService {
         requestDto.setStartDt(startDt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
         requestDto.setEndDt(endDt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
 
-        JSONObject JsonResponse = openAPI.connect(subUrl, requestDto, new LoanItemSrchResponseDto(), 1);
-        return new LinkedList<>(genreResponseParser.periodTrend(JsonResponse, filteredPageNo, filteredPageSize));
+        String body = openAPI.connectRaw(subUrl, requestDto, 1, null);
+        return responseParser.customPageFilter(genreResponseParser.ranking(body), filteredPageNo, filteredPageSize);
     }
 
+    // 전체 기간 순위 상위 RANDOM_POOL_SIZE 권 중 무작위 추출
     public LinkedList<LoanItemSrchResponseDto> random(LoanItemSrchRequestDto requestDto, Integer maxSize) throws Exception {
         log.trace("GenreService > random()");
 
-        String subUrl = "loanItemSrch";
-
-        requestDto.setPageSize("300");  // 셔플할 리스트의 페이지 크기 설정
-
-        JSONObject JsonResponse = openAPI.connect(subUrl, requestDto, new LoanItemSrchResponseDto(), 1);
-
-        return new LinkedList<>(genreResponseParser.random(JsonResponse, maxSize));
+        List<LoanItemSrchResponseDto> ranking = allPeriodRanking(requestDto);
+        LinkedList<LoanItemSrchResponseDto> pool = new LinkedList<>(ranking.subList(0, Math.min(RANDOM_POOL_SIZE, ranking.size())));
+        return RandomPicker.randomPick(pool, maxSize);
     }
 
+    // 전체 기간 순위 중 최근 NEW_TREND_YEAR_OFFSET 년 안에 출판된 책
     public LinkedList<LoanItemSrchResponseDto> newTrend(LoanItemSrchRequestDto requestDto,
                                                         String filteredPageNo, String filteredPageSize) throws Exception {
         log.trace("GenreService > newTrend()");
 
+        int fromYear = LocalDate.now().getYear() - NEW_TREND_YEAR_OFFSET;
+        List<LoanItemSrchResponseDto> newBooks = allPeriodRanking(requestDto).stream()
+                .filter(response -> genreResponseParser.publicationYear(response) >= fromYear)
+                .toList();
+        return responseParser.customPageFilter(newBooks, filteredPageNo, filteredPageSize);
+    }
+
+    // random, newTrend 가 함께 사용 (같은 요청이므로 upstream 호출은 OpenAPI 응답 캐시에서 공유)
+    // 트렌드 스냅샷을 만들 때만 호출되어 스냅샷 갱신 주기마다 한 번씩 파싱
+    private LinkedList<LoanItemSrchResponseDto> allPeriodRanking(LoanItemSrchRequestDto requestDto) throws Exception {
         String subUrl = "loanItemSrch";
 
         requestDto.setPageSize("1200");  // 커스텀 페이지네이션 적용하기 전 페이지 크기 설정
-        LocalDate today = LocalDate.now();
-        int currentYear = Integer.parseInt(today.format(DateTimeFormatter.ofPattern("yyyy")));
-
-        JSONObject JsonResponse = openAPI.connect(subUrl, requestDto, new LoanItemSrchResponseDto(), 2);
-
-        return new LinkedList<>(genreResponseParser.newTrend(JsonResponse, currentYear, filteredPageNo, filteredPageSize));
+        String body = openAPI.connectRaw(subUrl, requestDto, 2, OpenAPIPriority.BACKGROUND);
+        return genreResponseParser.ranking(body);
     }
 }
@@ -2,7 +2,9 @@ package com.book.backend.domain.goal.mapper;
 
 import com.book.backend.domain.book.dto.BookInfoDto;
 import com.book.backend.domain.book.dto.BookSummaryDto;
+import com.book.backend.domain.book.entity.Book;
 import com.book.backend.domain.book.mapper.BookMapper;
+import com.book.backend.domain.book.service.BookCatalogService;
 import com.book.backend.domain.goal.dto.GoalDto;
 import com.book.backend.domain.goal.dto.RecordIntervalDto;
 import com.book.backend.domain.goal.entity.Goal;
@@ -39,19 +41,28 @@ public class GoalMapper {
     private final BookMapper bookMapper;
     private final RecordRepository recordRepository;
     private final RecordMapper recordMapper;
+    private final BookCatalogService bookCatalogService;
 
     public GoalDto convertToGoalDto(Goal goal) throws Exception {
+        return convertToGoalDto(goal, bookCatalogService.findAllByIsbn(List.of(goal.getIsbn())).get(goal.getIsbn()),
+                recordRepository.findAllByGoal(goal));
+    }
+
+    // catalogBook : 로컬 카탈로그에서 미리 조회한 책 (없거나 책 정보가 비어 있으면 OpenAPI 로 조회)
+    // records : 미리 조회한 목표의 기록 (목표 목록은 한 번에 조회해서 전달)
+    public GoalDto convertToGoalDto(Goal goal, Book catalogBook, List<Record> records) throws Exception {
         log.trace("GoalMapper > convertToGoalDto()");
 
         GoalDto goalDto = mapper.map(goal, GoalDto.class);
-        goalDto.setBookSummary(getBookSummaryDto(goal.getIsbn()));
+        goalDto.setBookSummary((catalogBook != null && catalogBook.getBookname() != null)
+                ? bookMapper.convertToBookSummaryDto(catalogBook)
+                : getBookSummaryDto(goal.getIsbn()));
         User user = goal.getUser();
 
         // 유저 닉네임
         goalDto.setUserNickname(user.getNickname());
 
         // 일주일 기록
-        List<Record> records = recordRepository.findAllByGoal(goal);
         List<RecordDto> recordDtos = recordMapper.convertToRecordsDto(records);
         List<RecordIntervalDto> aWeekRecords = convertAWeekRecords(recordDtos);
         goalDto.setAWeekRecords(aWeekRecords);
@@ -1,6 +1,8 @@
 package com.book.backend.domain.goal.service;
 
 import com.book.backend.domain.book.dto.BookSummaryDto;
+import com.book.backend.domain.book.entity.Book;
+import com.book.backend.domain.book.service.BookCatalogService;
 import com.book.backend.domain.goal.dto.*;
 import com.book.backend.domain.goal.entity.Goal;
 import com.book.backend.domain.goal.mapper.GoalMapper;
@@ -21,6 +23,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,6 +37,7 @@ public class GoalService {
     private final RecordRepository recordRepository;
     private final RecordMapper recordMapper;
     private final UserBookService userBookService;
+    private final BookCatalogService bookCatalogService;
 
     public GoalDto getGoal(Long goalId) throws Exception {
         log.trace("GoalService > getGoal()");
@@ -49,15 +54,21 @@ public class GoalService {
         // 유저 검증
         User user = goalRequestValidate.validateAndGetLoggedInUser();
 
-        List<Goal> goals = user.getGoals();
+        List<Goal> goals = user.getGoals().stream()
+                .filter(goal -> isFinished == null || isFinished.equals(goal.getIsFinished()))
+                .toList();
         List<GoalDto> goalDtos = new LinkedList<>();
 
+        // 책 정보는 로컬 카탈로그에서 한 번에 조회 (카탈로그에 없는 책만 OpenAPI 호출)
+        Map<String, Book> catalogBooks = bookCatalogService.findAllByIsbn(goals.stream().map(Goal::getIsbn).toList());
+        // 기록도 목표마다 조회하지 않고 한 번에 조회
+        Map<Long, List<Record>> records = findRecordsByGoalId(goals);
+
         // GoalDto로 변경
         for (Goal goal : goals) {
-            if (isFinished == null || isFinished.equals(goal.getIsFinished())) {
-                GoalDto dto = goalMapper.convertToGoalDto(goal);
-                goalDtos.add(dto);
-            }
+            GoalDto dto = goalMapper.convertToGoalDto(goal, catalogBooks.get(goal.getIsbn()),
+                    records.getOrDefault(goal.getGoalId(), List.of()));
+            goalDtos.add(dto);
         }
 
         return goalDtos;
@@ -74,10 +85,10 @@ public class GoalService {
         }
 
         List<UserProgressDto> userProgressDtos = new LinkedList<>();
+        Map<Long, List<Record>> records = findRecordsByGoalId(goals);
 
         for (Goal goal : goals) {
-            List<Record> records = recordRepository.findAllByGoal(goal);
-            List<RecordDto> recordDtos = recordMapper.convertToRecordsDto(records);
+            List<RecordDto> recordDtos = recordMapper.convertToRecordsDto(records.getOrDefault(goal.getGoalId(), List.of()));
             Integer mostRecentPage = goalMapper.getMostRecentPage(recordDtos);
 
             double progressRate = goalMapper.getFormattedProgressRate((double) goal.getTotalPage(), (double) mostRecentPage);
@@ -147,6 +158,9 @@ public class GoalService {
 
         goalRepository.save(goal);
 
+        // 총 페이지 수는 OpenAPI 에서 제공하지 않으므로 사용자가 입력한 값을 카탈로그에 저장
+        bookCatalogService.savePageCountAsync(isbn, totalPage);
+
         return goalMapper.convertToGoalDto(goal);
     }
 
@@ -197,4 +211,13 @@ public class GoalService {
         goalRepository.delete(goal);
     }
 
+    // 목표 id 별 기록 (한 번의 쿼리로 조회)
+    private Map<Long, List<Record>> findRecordsByGoalId(List<Goal> goals) {
+        if (goals.isEmpty()) {
+            return Map.of();
+        }
+        return recordRepository.findAllByGoalIn(goals).stream()
+                .collect(Collectors.groupingBy(record -> record.getGoal().getGoalId()));
+    }
+
 }
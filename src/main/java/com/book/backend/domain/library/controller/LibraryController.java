@@ -4,6 +4,7 @@ import com.book.backend.domain.library.service.LibraryService;
 import com.book.backend.domain.openapi.dto.request.LibSrchRequestDto;
 import com.book.backend.domain.openapi.dto.response.LibSrchResponseDto;
 import com.book.backend.domain.openapi.service.RequestValidate;
+import com.book.backend.global.ResponseCachePolicy;
 import com.book.backend.global.ResponseTemplate;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,6 +12,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -21,6 +23,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/library")
@@ -41,7 +45,8 @@ public class LibraryController {
                     description = LibSrchResponseDto.description)})
     @GetMapping("/searchByRegion")
     public ResponseEntity<?> searchLibrariesByRegion(@RequestParam String regionCode,
-                                                     @RequestParam(required = false) String regionDetailCode) throws Exception {
+                                                     @RequestParam(required = false) String regionDetailCode,
+                                                     HttpServletRequest request) throws Exception {
         log.trace("LibraryController > searchLibrariesByRegion");
 
         requestValidate.isValidRegionCode(regionCode);
@@ -64,7 +69,8 @@ public class LibraryController {
 
         LinkedList<LibSrchResponseDto> response = libraryService.searchLibraries(requestDto);
 
-        return responseTemplate.success(response, HttpStatus.OK);
+        return responseTemplate.conditional(request, eTag(response), ResponseCachePolicy.LIBRARY,
+                () -> responseTemplate.success(response, HttpStatus.OK));
     }
 
     // 도서관 코드 기반 도서관 검색
@@ -74,7 +80,8 @@ public class LibraryController {
             responses = {@ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = LibSrchResponseDto.class)),
                     description = LibSrchResponseDto.description)})
     @GetMapping("/searchByLibCode")
-    public ResponseEntity<?> searchLibraryByLibCode(@RequestParam String libCode) throws Exception {
+    public ResponseEntity<?> searchLibraryByLibCode(@RequestParam String libCode,
+                                                    HttpServletRequest request) throws Exception {
         log.trace("LibraryController > searchLibraryByLibCode");
 
         LibSrchRequestDto requestDto = LibSrchRequestDto.builder()
@@ -83,6 +90,15 @@ public class LibraryController {
 
         LibSrchResponseDto response = libraryService.searchLibraries(requestDto).getFirst();
 
-        return responseTemplate.success(response, HttpStatus.OK);
+        return responseTemplate.conditional(request, eTag(List.of(response)), ResponseCachePolicy.LIBRARY,
+                () -> responseTemplate.success(response, HttpStatus.OK));
+    }
+
+    // 도서관 정보는 버전이 따로 없으므로 응답할 필드 값으로 ETag 생성
+    private static String eTag(List<LibSrchResponseDto> libraries) {
+        return ResponseTemplate.contentETag(libraries.stream()
+                .flatMap(library -> Stream.of(library.getLibCode(), library.getLibName(), library.getAddress(),
+                        library.getTel(), library.getFax(), library.getLatitude(), library.getLongitude(),
+                        library.getHomepage(), library.getClosed(), library.getOperatingTime(), library.getBookCount())));
     }
 }
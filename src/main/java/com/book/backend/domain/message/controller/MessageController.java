@@ -7,6 +7,7 @@ import com.book.backend.domain.message.entity.Message;
 import com.book.backend.domain.message.service.MessageService;
 import com.book.backend.domain.openapi.service.RequestValidate;
 import com.book.backend.global.ResponseTemplate;
+import com.book.backend.global.stomp.ChatMessageRelay;
 import com.book.backend.global.log.RequestLogger;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -24,9 +25,9 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.web.bind.annotation.*;
 
+import java.security.Principal;
 import java.util.List;
 
 
@@ -37,7 +38,7 @@ import java.util.List;
 public class MessageController {
     private final MessageService messageService;
     private final ResponseTemplate responseTemplate;
-    private final SimpMessageSendingOperations sendingOperations;
+    private final ChatMessageRelay chatMessageRelay;
     private final RequestValidate requestValidate;
     private final GoalService goalService;
 
@@ -72,12 +73,12 @@ public class MessageController {
 
     // 채팅 저장하기 (apic 으로 테스트)
     @MessageMapping("/message")
-    public void chat(MessageRequestDto messageRequestDto) {
+    public void chat(MessageRequestDto messageRequestDto, Principal principal) {
         log.trace("---------------------------------------------");
         log.trace("stomp URL : /pub/message"); // Endpoint URL 로깅
         RequestLogger.body(messageRequestDto);
-        MessageResponseDto response = messageService.saveMessage(messageRequestDto);
-        sendingOperations.convertAndSend("/sub/message/" + messageRequestDto.getOpentalkId(), response); // 수신자들에게 전송
+        MessageResponseDto response = messageService.saveMessage(messageRequestDto, principal); // CONNECT 에서 인증한 사용자
+        chatMessageRelay.publish(messageRequestDto.getOpentalkId(), response); // 수신자들에게 전송 (모든 서버)
     }
     // swagger docs 에 남기기 위한 용도
     @Operation(summary="메세지 저장 (채팅 stomp 통신)", description="APIC 테스터기를 이용해서 stomp 통신을 합니다.  \n" +
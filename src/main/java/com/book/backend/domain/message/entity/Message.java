@@ -30,4 +30,6 @@ public class Message {
     private String content;
 
     private Date createdAt;
+
+    private String streamId; // write-behind 로 저장한 메시지의 Redis stream id (다시 저장해도 중복되지 않도록 unique)
 }
@@ -10,6 +10,7 @@ import com.book.backend.domain.user.repository.UserRepository;
 import com.book.backend.domain.user.service.UserService;
 import com.book.backend.exception.CustomException;
 import com.book.backend.exception.ErrorCode;
+import com.book.backend.global.stomp.ChatPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
@@ -47,6 +48,34 @@ public class MessageMapper {
         return message;
     }
 
+    // STOMP 세션에 저장된 사용자로 생성 (사용자는 조회하지 않고 id 참조만 사용)
+    @Transactional
+    public Message convertToMessage(MessageRequestDto dto, ChatPrincipal principal) {
+        log.trace("MessageMapper > convertToMessage()");
+        Opentalk opentalk = opentalkRepository.findById(dto.getOpentalkId())
+                .orElseThrow(() -> new CustomException(ErrorCode.OPENTALK_NOT_FOUND));
+
+        Message message = new Message();
+        message.setUser(userRepository.getReferenceById(principal.getUserId())); // 보낸 사람
+        message.setOpentalk(opentalk);
+        message.setType(dto.getType());
+        message.setContent(dto.getContent());
+        message.setCreatedAt(new Date());
+
+        return message;
+    }
+
+    public MessageResponseDto convertToMessageResponseDto(Message message, ChatPrincipal principal) {
+        log.trace("MessageMapper > convertToMessageResponseDto()");
+        return MessageResponseDto.builder()
+                .nickname(principal.getNickname())
+                .profileImageUrl(principal.getProfileImageUrl())
+                .type(message.getType())
+                .content(message.getContent())
+                .createdAt(message.getCreatedAt())
+                .build();
+    }
+
     public MessageResponseDto convertToMessageResponseDto(Message message) {
         log.trace("MessageMapper > convertToMessageResponseDto()");
 
@@ -12,10 +12,12 @@ import com.book.backend.domain.message.repository.MessageRepository;
 import com.book.backend.domain.openapi.service.RequestValidate;
 import com.book.backend.domain.opentalk.entity.Opentalk;
 import com.book.backend.domain.opentalk.repository.OpentalkRepository;
+import com.book.backend.domain.opentalk.service.HotOpentalkRanking;
 import com.book.backend.domain.user.entity.User;
 import com.book.backend.domain.user.service.UserService;
 import com.book.backend.exception.CustomException;
 import com.book.backend.exception.ErrorCode;
+import com.book.backend.global.stomp.ChatPrincipal;
 import com.book.backend.util.JwtUtil;
 import io.jsonwebtoken.ExpiredJwtException;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +30,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.security.Principal;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -35,6 +38,8 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 public class MessageService {
+    private static final int MAX_CONTENT_LENGTH = 255; // message.content 컬럼 길이 (VARCHAR(255))
+
     private final MessageRepository messageRepository;
     private final OpentalkRepository opentalkRepository;
     private final GoalRepository goalRepository;
@@ -43,6 +48,8 @@ public class MessageService {
     private final CustomUserDetailsService userDetailsService;
     private final RequestValidate requestValidate;
     private final UserService userService;
+    private final HotOpentalkRanking hotOpentalkRanking;
+    private final MessageWriteBehind messageWriteBehind;
 
     public MessageResponseDto saveHttpMessage(Long opentalkId, String type, String content){
         log.trace("MessageService > saveHttpMessage()");
@@ -63,6 +70,7 @@ public class MessageService {
         } catch (Exception e){
             throw new CustomException(ErrorCode.MESSAGE_SAVE_FAILED);
         }
+        hotOpentalkRanking.record(message.getOpentalk().getOpentalkId()); // 핫 오픈톡 순위 갱신
         return messageMapper.convertToMessageResponseDto(message);
     }
 
@@ -83,6 +91,7 @@ public class MessageService {
         } catch (Exception e){
             throw new CustomException(ErrorCode.MESSAGE_SAVE_FAILED);
         }
+        hotOpentalkRanking.record(message.getOpentalk().getOpentalkId()); // 핫 오픈톡 순위 갱신
         return messageMapper.convertToMessageResponseDto(message);
     }
 
@@ -93,14 +102,36 @@ public class MessageService {
         String token = messageRequestDto.getJwtToken();
         validateToken(token);
 
-        // message DB에 저장
         Message message = messageMapper.convertToMessage(messageRequestDto);
+        append(message);
+        return messageMapper.convertToMessageResponseDto(message);
+    }
+
+    // STOMP 메시지 저장 (CONNECT 에서 인증한 세션이면 토큰 검증, 사용자 조회 없이 저장)
+    @Transactional
+    public MessageResponseDto saveMessage(MessageRequestDto messageRequestDto, Principal principal){
+        if (!(principal instanceof ChatPrincipal chatPrincipal)) { // CONNECT 에 토큰이 없던 세션
+            return saveMessage(messageRequestDto);
+        }
+        log.trace("MessageService > saveMessage()");
+        Message message = messageMapper.convertToMessage(messageRequestDto, chatPrincipal);
+        append(message);
+        return messageMapper.convertToMessageResponseDto(message, chatPrincipal);
+    }
+
+    // message DB에 저장 (Redis stream 에 기록 후 모아서 저장, 구독자 전송은 기다리지 않음)
+    private void append(Message message) {
+        // DB 저장 전에 구독자에게 전송되므로 저장할 수 없는 메시지는 미리 거절
+        String content = message.getContent();
+        if (content != null && content.codePointCount(0, content.length()) > MAX_CONTENT_LENGTH) {
+            throw new CustomException(ErrorCode.MESSAGE_TOO_LONG);
+        }
         try{
-            messageRepository.save(message);
+            messageWriteBehind.append(message);
         } catch (Exception e){
             throw new CustomException(ErrorCode.MESSAGE_SAVE_FAILED);
         }
-        return messageMapper.convertToMessageResponseDto(message);
+        hotOpentalkRanking.record(message.getOpentalk().getOpentalkId()); // 핫 오픈톡 순위 갱신
     }
 
     @Transactional
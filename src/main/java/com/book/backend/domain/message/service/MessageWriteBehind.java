@@ -0,0 +1,230 @@
+package com.book.backend.domain.message.service;
+
+import com.book.backend.domain.message.entity.Message;
+import com.book.backend.domain.message.repository.MessageRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+    채팅 메시지 write-behind 저장
+    1. 메시지를 Redis stream (message:stream) 에 먼저 기록 (write-ahead, 서버가 죽어도 Redis 에 남음)
+    2. 서버 메모리 대기열에 추가하고 바로 반환 (구독자 전송은 DB 저장을 기다리지 않음)
+    3. flusher 스레드가 batchSize 개가 모이거나 flushIntervalMillis 가 지나면 여러 행을 INSERT 한 번으로 저장하고 stream 에서 삭제
+    4. recoveryAfterSeconds 가 지나도 stream 에 남아 있는 메시지 (저장 전에 서버가 죽었거나 DB 저장 실패) 는 lock 을 잡은 서버 한 대가 다시 저장
+    stream id 를 message.stream_id (unique) 에 저장하고 ON DUPLICATE KEY UPDATE 로 넣으므로 같은 메시지가 두 번 저장되지 않음
+    (INSERT IGNORE 와 달리 중복 stream_id 만 건너뛰고, 길이 초과, 외래 키 오류 등은 그대로 실패)
+    유실 범위는 Redis 영속성 설정을 따름 (AOF everysec 이면 Redis 장애 시 최대 1초), Redis 에 기록하지 못하면 바로 DB 에 저장
+    저장 전 최대 flushIntervalMillis 동안은 메시지 조회 API 에 나오지 않을 수 있음
+*/
+@Component
+@Slf4j
+public class MessageWriteBehind {
+    private static final String STREAM_KEY = "message:stream";
+    private static final String RECOVERY_LOCK_KEY = "message:stream:recovery:lock";
+    private static final String INSERT_PREFIX =
+            "INSERT INTO message (opentalk_id, user_id, type, content, created_at, stream_id) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SUFFIX = " ON DUPLICATE KEY UPDATE stream_id = stream_id"; // 이미 저장된 stream_id 만 건너뜀
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final MessageRepository messageRepository;
+    private final BlockingQueue<PendingMessage> queue;
+    private final ScheduledExecutorService flusher;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final int batchSize;
+    private final long recoveryAfterMillis;
+    private final Duration recoveryInterval;
+
+    public MessageWriteBehind(StringRedisTemplate redisTemplate, JdbcTemplate jdbcTemplate,
+                              MessageRepository messageRepository, MeterRegistry meterRegistry,
+                              @Value("${message.writeBehind.queueCapacity}") int queueCapacity,
+                              @Value("${message.writeBehind.batchSize}") int batchSize,
+                              @Value("${message.writeBehind.flushIntervalMillis}") long flushIntervalMillis,
+                              @Value("${message.writeBehind.recoveryAfterSeconds}") long recoveryAfterSeconds,
+                              @Value("${message.writeBehind.recoveryIntervalMillis}") long recoveryIntervalMillis) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.messageRepository = messageRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.recoveryAfterMillis = TimeUnit.SECONDS.toMillis(recoveryAfterSeconds);
+        this.recoveryInterval = Duration.ofMillis(recoveryIntervalMillis);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "message-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("message.writeBehind.queue", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    public void append(Message message) {
+        PendingMessage pending = appendToStream(message);
+        if (pending == null) { // Redis 에 기록하지 못하면 유실되지 않도록 바로 저장
+            messageRepository.save(message);
+            return;
+        }
+        if (!queue.offer(pending)) { // 대기열이 가득 차면 호출 스레드에서 바로 저장 (backpressure)
+            persist(List.of(pending));
+            return;
+        }
+        if (queue.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flush);
+        }
+    }
+
+    // 대기열이 빌 때까지 batchSize 개씩 저장
+    private void flush() {
+        flushRequested.set(false);
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            persist(batch);
+            batch.clear();
+        }
+    }
+
+    // 오래된 메시지가 stream 에 남아 있으면 (다른 서버가 저장하지 못한 메시지 포함) 저장
+    @Scheduled(fixedDelayString = "${message.writeBehind.recoveryIntervalMillis}",
+            initialDelayString = "${message.writeBehind.recoveryIntervalMillis}")
+    public void recover() {
+        String maxId = (System.currentTimeMillis() - recoveryAfterMillis) + "-0";
+        try {
+            // 다른 서버가 이번 주기에 이미 다시 저장 중이면 건너뜀 (lock 은 만료될 때까지 유지해서 주기당 한 번만 저장)
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(RECOVERY_LOCK_KEY, "1", recoveryInterval);
+            if (!Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+            List<MapRecord<String, Object, Object>> records;
+            do {
+                records = redisTemplate.opsForStream().range(STREAM_KEY,
+                        Range.leftUnbounded(Range.Bound.inclusive(maxId)), Limit.limit().count(batchSize));
+                if (records == null || records.isEmpty()) {
+                    return;
+                }
+                log.info("stream 에 남아 있는 메시지 " + records.size() + "개를 저장합니다.");
+                if (!persist(records.stream().map(PendingMessage::of).toList())) {
+                    return; // DB 저장 실패 시 다음 주기에 다시 시도
+                }
+            } while (records.size() == batchSize);
+        } catch (Exception e) {
+            log.warn("stream 에 남아 있는 메시지를 저장하지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    private PendingMessage appendToStream(Message message) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("opentalkId", String.valueOf(message.getOpentalk().getOpentalkId()));
+        fields.put("userId", String.valueOf(message.getUser().getUserId()));
+        if (message.getType() != null) {
+            fields.put("type", message.getType());
+        }
+        if (message.getContent() != null) { // stream 에는 null 값을 넣을 수 없으므로 null 이면 생략
+            fields.put("content", message.getContent());
+        }
+        fields.put("createdAt", String.valueOf(message.getCreatedAt().getTime()));
+        try {
+            RecordId recordId = redisTemplate.opsForStream().add(StreamRecords.string(fields).withStreamKey(STREAM_KEY));
+            return recordId == null ? null : PendingMessage.of(recordId.getValue(), fields);
+        } catch (Exception e) {
+            log.warn("메시지를 Redis stream 에 기록하지 못해 바로 저장합니다: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // 여러 행을 INSERT 한 번으로 저장하고 stream 에서 삭제 (실패하면 stream 에 남겨두고 false)
+    private boolean persist(Collection<PendingMessage> batch) {
+        try {
+            insert(batch);
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() > 1) { // 저장할 수 없는 행 (삭제된 오픈톡 등) 때문에 나머지가 막히지 않도록 한 행씩 저장
+                return batch.stream().map(pending -> persist(List.of(pending))).reduce(true, Boolean::logicalAnd);
+            }
+            // 다시 저장해도 실패하므로 stream 에서 삭제
+            PendingMessage pending = batch.iterator().next();
+            log.error("저장할 수 없는 메시지를 stream 에서 삭제합니다. (streamId=" + pending.streamId()
+                    + ", opentalkId=" + pending.opentalkId() + ") " + e.getMessage());
+        } catch (Exception e) {
+            log.warn("메시지 " + batch.size() + "개를 저장하지 못했습니다. (stream 에 남아 있으므로 다시 저장됨) " + e.getMessage());
+            return false;
+        }
+        try {
+            redisTemplate.opsForStream().delete(STREAM_KEY, batch.stream().map(PendingMessage::streamId).toArray(String[]::new));
+        } catch (Exception e) { // 다시 저장되더라도 stream_id 로 중복 저장되지 않음
+            log.warn("저장한 메시지를 stream 에서 삭제하지 못했습니다: " + e.getMessage());
+        }
+        return true;
+    }
+
+    private void insert(Collection<PendingMessage> batch) {
+        List<Object> args = new ArrayList<>(batch.size() * 6);
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (PendingMessage pending : batch) {
+            if (args.size() > 0) {
+                sql.append(", ");
+            }
+            sql.append(INSERT_ROW);
+            args.add(pending.opentalkId());
+            args.add(pending.userId());
+            args.add(pending.type());
+            args.add(pending.content());
+            args.add(new Timestamp(pending.createdAt()));
+            args.add(pending.streamId());
+        }
+        sql.append(INSERT_SUFFIX);
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(5, TimeUnit.SECONDS);
+        flush(); // 남은 메시지 저장 (실패해도 stream 에 남아 있음)
+    }
+
+    private record PendingMessage(String streamId, Long opentalkId, Long userId, String type, String content, long createdAt) {
+        static PendingMessage of(String streamId, Map<?, ?> fields) {
+            Object type = fields.get("type");
+            Object content = fields.get("content");
+            return new PendingMessage(streamId,
+                    Long.valueOf(fields.get("opentalkId").toString()),
+                    Long.valueOf(fields.get("userId").toString()),
+                    type == null ? null : type.toString(),
+                    content == null ? null : content.toString(),
+                    Long.parseLong(fields.get("createdAt").toString()));
+        }
+
+        static PendingMessage of(MapRecord<String, Object, Object> record) {
+            return of(record.getId().getValue(), record.getValue());
+        }
+    }
+}
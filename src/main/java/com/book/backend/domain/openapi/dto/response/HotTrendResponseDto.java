@@ -1,5 +1,6 @@
 package com.book.backend.domain.openapi.dto.response;
 
+import com.book.backend.domain.openapi.service.BookRecordPool;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,7 +10,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class HotTrendResponseDto implements OpenAPIResponseInterface {
+public class HotTrendResponseDto implements OpenAPIResponseInterface, PooledBookResponse {
     private String no;
     private String difference;
     private String baseWeekRank;
@@ -30,4 +31,16 @@ public class HotTrendResponseDto implements OpenAPIResponseInterface {
             + "bookname: 책이름 | authors: 작가, 옮긴이 | publisher: 출판사 | publication_year: 출판년도 | isbn13: 책 바코드 | "
             + "additional_symbol: 책 바코드 부가기호? | vol: 권? | class_no: 주제코드 | class_nm: 주제분류 | bookImageURL: 책표지 URL | "
             + "bookDtlUrl: 책 상세정보 URL";
+
+    @Override
+    public void shareBookRecord(BookRecordPool.BookRecord record) {
+        this.isbn13 = record.isbn13();
+        this.bookname = record.bookname();
+        this.authors = record.authors();
+        this.publisher = record.publisher();
+        this.publication_year = record.publicationYear();
+        this.class_no = record.classNo();
+        this.class_nm = record.classNm();
+        this.bookImageURL = record.bookImageURL();
+    }
 }
@@ -0,0 +1,25 @@
+package com.book.backend.domain.openapi.dto.response;
+
+import com.book.backend.domain.openapi.service.BookRecordPool;
+
+// 여러 응답에 같은 책(ISBN)이 나오면 책 정보 문자열을 BookRecordPool 의 인스턴스 하나로 공유하는 응답 DTO
+public interface PooledBookResponse {
+    String getIsbn13();
+
+    String getBookname();
+
+    String getAuthors();
+
+    String getPublisher();
+
+    String getPublication_year();
+
+    String getClass_no();
+
+    String getClass_nm();
+
+    String getBookImageURL();
+
+    // record 의 값은 이 DTO 의 값과 같음 (같은 문자열을 공유 인스턴스로 교체)
+    void shareBookRecord(BookRecordPool.BookRecord record);
+}
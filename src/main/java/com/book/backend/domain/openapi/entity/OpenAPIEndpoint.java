@@ -0,0 +1,32 @@
+package com.book.backend.domain.openapi.entity;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OpenAPIEndpoint {
+    RECOMMEND_LIST("recommandList", Duration.ofDays(1), OpenAPIPriority.STANDARD, OpenAPIEndpointFamily.TREND),
+    HOT_TREND("hotTrend", Duration.ofHours(6), OpenAPIPriority.STANDARD, OpenAPIEndpointFamily.TREND),
+    MONTHLY_KEYWORDS("monthlyKeywords", Duration.ofDays(1), OpenAPIPriority.STANDARD, OpenAPIEndpointFamily.TREND),
+    LOAN_ITEM_SRCH("loanItemSrch", Duration.ofHours(6), OpenAPIPriority.STANDARD, OpenAPIEndpointFamily.TREND),
+    USAGE_ANALYSIS_LIST("usageAnalysisList", Duration.ofHours(12), OpenAPIPriority.USER_FACING, OpenAPIEndpointFamily.DETAIL),
+    SRCH_BOOKS("srchBooks", Duration.ofHours(1), OpenAPIPriority.USER_FACING, OpenAPIEndpointFamily.SEARCH),
+    LIB_SRCH("libSrch", Duration.ofDays(1), OpenAPIPriority.STANDARD, OpenAPIEndpointFamily.SEARCH),
+    BOOK_EXIST("bookExist", Duration.ofMinutes(5), OpenAPIPriority.USER_FACING, OpenAPIEndpointFamily.DETAIL); // 대출 가능 여부는 자주 바뀜
+
+    public final String subUrl;
+    public final Duration cacheTtl; // 응답 캐시 유지 시간
+    public final OpenAPIPriority priority; // 호출 한도 우선순위 (기본값)
+    public final OpenAPIEndpointFamily family; // 동시 호출 수를 따로 제한하는 묶음 (bulkhead)
+
+    public static OpenAPIEndpoint of(String subUrl) {
+        for (OpenAPIEndpoint endpoint : values()) {
+            if (endpoint.getSubUrl().equals(subUrl)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("등록되지 않은 OpenAPI subUrl 입니다: " + subUrl);
+    }
+}
@@ -0,0 +1,14 @@
+package com.book.backend.domain.openapi.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OpenAPIEndpointFamily {
+    TREND("trend"), // 인기대출, 트렌드, 키워드, 추천 (응답이 크고 느림)
+    DETAIL("detail"), // 상세, 대출 가능 여부 (사용자가 직접 기다림)
+    SEARCH("search"); // 도서 검색, 도서관 검색 (사용자가 직접 기다림)
+
+    public final String key; // application.yml 의 openapi.bulkhead.{key}
+}
@@ -0,0 +1,14 @@
+package com.book.backend.domain.openapi.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OpenAPIPriority {
+    USER_FACING(1.0), // 상세, 검색 등 사용자가 직접 기다리는 호출 -> 일일 한도 전체 사용 가능
+    STANDARD(0.85),
+    BACKGROUND(0.6); // 무작위순, 신작 등 부가적인 호출 -> 한도의 60% 까지만 사용
+
+    public final double budgetRatio; // 일일 한도 중 사용 가능한 비율
+}
@@ -0,0 +1,125 @@
+package com.book.backend.domain.openapi.service;
+
+import com.book.backend.domain.openapi.dto.response.PooledBookResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+    책 정보 flyweight pool (key : ISBN-13 을 long 으로 변환한 값)
+    대출 급상승, 조건형 인기 대출, 장르별 순위, 추천 목록에 같은 책이 동시에 나와도 책이름, 작가 등의 문자열은 한 벌만 보관
+    출판사, 주제분류처럼 여러 책에 반복되는 값은 값 자체로 한 번 더 공유 (ISBN 은 책마다 다르므로 공유하지 않음)
+    maxSize 를 넘으면 오래 안 쓴 책부터 제외 (이미 공유 중인 DTO 는 그대로 사용 가능)
+    book.record.pool.strings : pool 에 보관 중인 서로 다른 문자열 수
+    book.record.pool.references : DTO 에 공유 문자열을 넘겨준 누적 횟수 (strings 대비 클수록 많이 공유됨)
+*/
+@Component
+@Slf4j
+public class BookRecordPool {
+    private static final int ISBN_LENGTH = 13;
+
+    private final Cache<Long, BookRecord> records;
+    private final Cache<String, String> values;
+    private final LongAdder references = new LongAdder();
+
+    public BookRecordPool(MeterRegistry meterRegistry, @Value("${book.recordPool.maxSize}") long maxSize) {
+        this.records = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+        this.values = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+        Gauge.builder("book.record.pool.size", records, Cache::estimatedSize)
+                .register(meterRegistry);
+        Gauge.builder("book.record.pool.strings", this, BookRecordPool::residentStrings)
+                .register(meterRegistry);
+        FunctionCounter.builder("book.record.pool.references", references, LongAdder::sum)
+                .register(meterRegistry);
+    }
+
+    // response 의 책 정보를 pool 의 문자열로 교체해서 그대로 반환 (ISBN 이 없거나 13자리 숫자가 아니면 그대로 반환)
+    public <T> T intern(T response) {
+        if (!(response instanceof PooledBookResponse book)) {
+            return response;
+        }
+        long isbn = parseIsbn(book.getIsbn13());
+        if (isbn < 0) {
+            return response;
+        }
+
+        BookRecord record = records.getIfPresent(isbn);
+        if (record == null || !record.matches(book)) { // 처음 보는 책이거나 책 정보가 바뀜
+            record = new BookRecord(book.getIsbn13(), book.getBookname(), book.getAuthors(),
+                    value(book.getPublisher()), value(book.getPublication_year()),
+                    value(book.getClass_no()), value(book.getClass_nm()), book.getBookImageURL());
+            records.put(isbn, record);
+        }
+        references.add(record.stringCount());
+        book.shareBookRecord(record);
+        return response;
+    }
+
+    private String value(String value) {
+        return value == null ? null : values.get(value, key -> key);
+    }
+
+    // 책마다 따로 보관하는 문자열 (ISBN, 책이름, 작가, 표지 URL) + 여러 책이 공유하는 값
+    private double residentStrings() {
+        long ownStrings = 0;
+        for (BookRecord record : records.asMap().values()) {
+            ownStrings += record.ownStringCount();
+        }
+        return ownStrings + values.estimatedSize();
+    }
+
+    private static long parseIsbn(String isbn13) {
+        if (isbn13 == null || isbn13.length() != ISBN_LENGTH) {
+            return -1;
+        }
+        long isbn = 0;
+        for (int i = 0; i < ISBN_LENGTH; i++) {
+            char c = isbn13.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            isbn = isbn * 10 + (c - '0');
+        }
+        return isbn;
+    }
+
+    public record BookRecord(String isbn13, String bookname, String authors, String publisher, String publicationYear,
+                             String classNo, String classNm, String bookImageURL) {
+
+        boolean matches(PooledBookResponse book) {
+            return Objects.equals(bookname, book.getBookname())
+                    && Objects.equals(authors, book.getAuthors())
+                    && Objects.equals(publisher, book.getPublisher())
+                    && Objects.equals(publicationYear, book.getPublication_year())
+                    && Objects.equals(classNo, book.getClass_no())
+                    && Objects.equals(classNm, book.getClass_nm())
+                    && Objects.equals(bookImageURL, book.getBookImageURL());
+        }
+
+        // DTO 하나에 넘겨주는 문자열 수
+        int stringCount() {
+            return ownStringCount() + count(publisher) + count(publicationYear) + count(classNo) + count(classNm);
+        }
+
+        // 이 책만 가지고 있는 문자열 수 (나머지는 values 로 공유)
+        int ownStringCount() {
+            return count(isbn13) + count(bookname) + count(authors) + count(bookImageURL);
+        }
+
+        private static int count(String value) {
+            return value == null ? 0 : 1;
+        }
+    }
+}
@@ -1,21 +1,26 @@
 package com.book.backend.domain.openapi.service;
 
+import com.book.backend.domain.book.service.BookCatalogService;
 import com.book.backend.domain.openapi.dto.request.OpenAPIRequestInterface;
 import com.book.backend.domain.openapi.dto.response.OpenAPIResponseInterface;
+import com.book.backend.domain.openapi.entity.OpenAPIEndpoint;
+import com.book.backend.domain.openapi.entity.OpenAPIPriority;
 import com.book.backend.exception.CustomException;
 import com.book.backend.exception.ErrorCode;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.URL;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import java.lang.reflect.Field;
-import java.nio.charset.StandardCharsets;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 
 @Component
 @RequiredArgsConstructor
@@ -31,61 +36,240 @@ public class OpenAPI {
     private int MAX_RETRY_COUNTS;  // 최대 재시도 횟수
 
     private final String format = "json";
-    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    private final OpenAPITransport transport;
+    private final OpenAPIResponseCache responseCache;
+    private final OpenAPIRequestCoalescer requestCoalescer;
+    private final OpenAPIQuotaManager quotaManager;
+    private final OpenAPIStreamParser streamParser;
+    private final OpenAPIQueryEncoder queryEncoder;
+    private final OpenAPIRetryPolicy retryPolicy;
+    private final OpenAPICircuitBreaker circuitBreaker;
+    private final OpenAPIBulkhead bulkhead;
+    private final BookCatalogService bookCatalogService;
+    private final MeterRegistry meterRegistry;
 
     public JSONObject connect(String subUrl, OpenAPIRequestInterface dto, OpenAPIResponseInterface responseDto, int timeoutSeconds) throws Exception {
+        return connect(subUrl, dto, responseDto, timeoutSeconds, null);
+    }
+
+    // priority : 일일 호출 한도 우선순위 (null 이면 endpoint 기본값)
+    public JSONObject connect(String subUrl, OpenAPIRequestInterface dto, OpenAPIResponseInterface responseDto, int timeoutSeconds,
+                              OpenAPIPriority priority) throws Exception {
         log.trace("OpenAPI > connect()");
-        int retryCount = 0;
+        try {
+            return connectAsync(subUrl, dto, responseDto, timeoutSeconds, priority).join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    // 호출 스레드를 블로킹하지 않는 버전 (여러 OpenAPI 호출을 동시에 보낼 때 사용)
+    public CompletableFuture<JSONObject> connectAsync(String subUrl, OpenAPIRequestInterface dto, OpenAPIResponseInterface responseDto, int timeoutSeconds) {
+        return connectAsync(subUrl, dto, responseDto, timeoutSeconds, null);
+    }
 
-        while (retryCount < MAX_RETRY_COUNTS) {
-            try {
-                CompletableFuture<JSONObject> future = CompletableFuture.supplyAsync(() -> {
-                    try {
-                        URL url = setRequest(subUrl, dto); // 요청 만들기
+    public CompletableFuture<JSONObject> connectAsync(String subUrl, OpenAPIRequestInterface dto, OpenAPIResponseInterface responseDto, int timeoutSeconds,
+                                                      OpenAPIPriority priority) {
+        log.trace("OpenAPI > connectAsync()");
+        return connectRawAsync(subUrl, dto, timeoutSeconds, priority)
+                .thenApply(body -> readStreamToJson(body, responseDto)); // 응답 body 를 json 으로 변환
+    }
 
-                        log.trace("Request URL: " + url);
+    // 응답 body 를 그대로 반환 (큰 응답은 JSON 트리를 만들지 않고 OpenAPIStreamParser 로 필요한 doc 만 읽음)
+    public String connectRaw(String subUrl, OpenAPIRequestInterface dto, int timeoutSeconds, OpenAPIPriority priority) throws Exception {
+        log.trace("OpenAPI > connectRaw()");
+        try {
+            return connectRawAsync(subUrl, dto, timeoutSeconds, priority).join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
 
-                        InputStreamReader streamResponse = new InputStreamReader(url.openStream(), StandardCharsets.UTF_8); // 요청 보내기
-                        return readStreamToJson(streamResponse, responseDto); // 응답 stream 을 json 으로 변환
-                    } catch (Exception e) {
-                        throw new RuntimeException(e);  // 커스텀 불필요, 런타임 에러로 처리
+    public CompletableFuture<String> connectRawAsync(String subUrl, OpenAPIRequestInterface dto, int timeoutSeconds, OpenAPIPriority priority) {
+        log.trace("OpenAPI > connectRawAsync()");
+        OpenAPIEndpoint endpoint;
+        String query;
+        String cacheKey;
+        URI uri;
+        try {
+            endpoint = OpenAPIEndpoint.of(subUrl);
+            query = queryEncoder.encode(dto);
+            cacheKey = cacheKey(subUrl, query);
+
+            // 캐시된 응답이 있으면 OpenAPI 호출하지 않음
+            String cachedBody = responseCache.get(cacheKey);
+            if (cachedBody != null) {
+                log.trace("OpenAPI cache hit: " + cacheKey);
+                return CompletableFuture.completedFuture(cachedBody);
+            }
+
+            uri = setRequest(subUrl, query); // 요청 만들기
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        log.trace("Request URL: " + uri);
+
+        OpenAPIPriority callPriority = (priority != null) ? priority : endpoint.getPriority();
+
+        // 동일한 요청이 이미 진행 중이면 upstream 호출을 공유
+        return requestCoalescer.execute(endpoint, cacheKey, () -> {
+                    // upstream 장애로 circuit 이 열려 있으면 호출하지 않음 (이전 응답으로 대체)
+                    if (!circuitBreaker.tryAcquirePermission(endpoint)) {
+                        return CompletableFuture.failedFuture(new CustomException(ErrorCode.OPENAPI_UNAVAILABLE));
                     }
-                }, executorService);
+                    return send(endpoint, callPriority, uri, Duration.ofSeconds(timeoutSeconds), retryPolicy.deadlineNanos(), 0)
+                            .thenApply(body -> {
+                                validate(body);
+                                responseCache.put(endpoint, cacheKey, body); // 정상 응답만 캐시
+                                bookCatalogService.saveAsync(body); // 응답에 있는 책 정보는 로컬 카탈로그에도 저장
+                                return body;
+                            })
+                            .whenComplete((body, e) -> recordCircuitResult(endpoint, e));
+                })
+                .exceptionallyCompose(e -> fallbackToStale(e, endpoint, cacheKey));
+    }
+
+    // 호출 한도 초과, 동시 호출 수 초과는 upstream 장애가 아니므로 circuit breaker 에 기록하지 않음
+    private void recordCircuitResult(OpenAPIEndpoint endpoint, Throwable e) {
+        if (e == null) {
+            circuitBreaker.onSuccess(endpoint);
+            return;
+        }
+        Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+        if (cause instanceof CustomException customException
+                && (customException.getCode() == ErrorCode.API_CALL_LIMIT_EXCEEDED || customException.getCode() == ErrorCode.OPENAPI_BULKHEAD_FULL)) {
+            return;
+        }
+        circuitBreaker.onFailure(endpoint);
+    }
+
+    /*
+        timeoutCap : 서비스가 넘긴 시도별 최대 타임아웃 (실제 타임아웃은 OpenAPIRetryPolicy 가 응답 시간 분포로 결정)
+        deadlineNanos : 재시도와 backoff 를 포함해서 이 시각까지 응답을 못 받으면 실패
+    */
+    private CompletableFuture<String> send(OpenAPIEndpoint endpoint, OpenAPIPriority priority, URI uri, Duration timeoutCap,
+                                           long deadlineNanos, int retryCount) {
+        // 재시도 횟수나 전체 deadline 을 초과하면 예외 던지기
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (retryCount >= MAX_RETRY_COUNTS || remainingNanos <= 0) {
+            return CompletableFuture.failedFuture(new CustomException(ErrorCode.OPENAPI_REQUEST_TIMEOUT));
+        }
+        // 재시도를 포함한 모든 호출이 일일 한도를 차감
+        if (!quotaManager.tryAcquire(endpoint, priority)) {
+            return CompletableFuture.failedFuture(new CustomException(ErrorCode.API_CALL_LIMIT_EXCEEDED));
+        }
 
-                // 타임아웃 설정 및 결과 가져오기
-                return future.get(timeoutSeconds, TimeUnit.SECONDS);
-            } catch (TimeoutException e) {
-                log.warn("OPEN API 응답을 요청하는 중 타임아웃이 발생했습니다. 재시도합니다...(" + (retryCount + 1) + "/" + MAX_RETRY_COUNTS + ")");
-                retryCount++;
+        Duration timeout = retryPolicy.attemptTimeout(endpoint, timeoutCap);
+        if (timeout.toNanos() > remainingNanos) {
+            timeout = Duration.ofNanos(remainingNanos);
+        }
+
+        // hedge 는 첫 시도에만 (재시도 중에는 이미 upstream 이 느린 상태라 부하만 늘어남)
+        CompletableFuture<String> attempt = (retryCount == 0)
+                ? sendHedged(endpoint, priority, uri, timeout)
+                : sendOnce(endpoint, uri, timeout);
+
+        return attempt.exceptionallyCompose(e -> {
+            if (!isTimeout(e)) {
+                return CompletableFuture.failedFuture(e);
+            }
+            Duration backoff = retryPolicy.backoff(retryCount);
+            if (System.nanoTime() + backoff.toNanos() >= deadlineNanos) {
+                return CompletableFuture.failedFuture(new CustomException(ErrorCode.OPENAPI_REQUEST_TIMEOUT));
             }
+            log.warn("OPEN API 응답을 요청하는 중 타임아웃이 발생했습니다. " + backoff.toMillis() + "ms 후 재시도합니다...(" + (retryCount + 1) + "/" + MAX_RETRY_COUNTS + ")");
+            retryPolicy.recordRetry(endpoint);
+            Executor delayed = CompletableFuture.delayedExecutor(backoff.toMillis(), TimeUnit.MILLISECONDS);
+            return CompletableFuture.supplyAsync(() -> null, delayed)
+                    .thenCompose(ignored -> send(endpoint, priority, uri, timeoutCap, deadlineNanos, retryCount + 1));
+        });
+    }
+
+    /*
+        요청 1회 (타임아웃되거나 반환된 future 를 취소하면 요청 취소됨), 정상 응답의 소요 시간은 타임아웃 계산에 사용
+        endpoint 묶음별 동시 호출 수를 넘으면 bulkhead 에서 대기하며, 대기 시간도 timeout 에 포함됨
+    */
+    private CompletableFuture<String> sendOnce(OpenAPIEndpoint endpoint, URI uri, Duration timeout) {
+        return bulkhead.execute(endpoint, () -> {
+                    long startNanos = System.nanoTime();
+                    CompletableFuture<String> body = transport.get(uri, timeout);
+                    body.whenComplete((result, e) -> {
+                        if (e == null) {
+                            retryPolicy.record(endpoint, System.nanoTime() - startNanos);
+                        }
+                    });
+                    return body;
+                })
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // p95 가 지나도 응답이 없으면 같은 요청을 한 번 더 보내고, 먼저 성공한 응답을 사용 (나머지는 취소)
+    private CompletableFuture<String> sendHedged(OpenAPIEndpoint endpoint, OpenAPIPriority priority, URI uri, Duration timeout) {
+        CompletableFuture<String> primary = sendOnce(endpoint, uri, timeout);
+        Duration hedgeDelay = retryPolicy.hedgeDelay(endpoint);
+        if (hedgeDelay == null || hedgeDelay.compareTo(timeout) >= 0) {
+            return primary;
         }
 
-        // 재시도 횟수를 초과하면 예외 던지기
-        throw new CustomException(ErrorCode.OPENAPI_REQUEST_TIMEOUT);
+        CompletableFuture<String> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<String>> hedge = new AtomicReference<>();
+        AtomicInteger pending = new AtomicInteger(1); // 아직 끝나지 않은 요청 수, 모두 실패하면 마지막 예외로 실패
+        BiConsumer<String, Throwable> onComplete = (body, e) -> {
+            if (e == null) {
+                result.complete(body);
+            } else if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(e);
+            }
+        };
+        primary.whenComplete(onComplete);
+
+        CompletableFuture.delayedExecutor(hedgeDelay.toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+            // hedge 요청도 일일 한도를 차감하므로 한도가 부족하면 보내지 않음
+            if (primary.isDone() || !quotaManager.tryAcquire(endpoint, priority)) {
+                return;
+            }
+            pending.incrementAndGet();
+            retryPolicy.recordHedge(endpoint);
+            CompletableFuture<String> hedgeRequest = sendOnce(endpoint, uri, timeout.minus(hedgeDelay));
+            hedge.set(hedgeRequest);
+            hedgeRequest.whenComplete(onComplete);
+            if (result.isDone()) {
+                hedgeRequest.cancel(true);
+            }
+        });
+
+        result.whenComplete((body, e) -> { // 먼저 끝난 쪽이 있으면 나머지 요청 취소
+            primary.cancel(true);
+            CompletableFuture<String> hedgeRequest = hedge.get();
+            if (hedgeRequest != null) {
+                hedgeRequest.cancel(true);
+            }
+        });
+        return result;
     }
 
-    private URL setRequest(String subUrl, OpenAPIRequestInterface dto) throws Exception {
+    private URI setRequest(String subUrl, String query) throws Exception {
         log.trace("OpenAPI > setRequest()");
-        StringBuilder sb = new StringBuilder();
-
-        // url 에 request Param 추가
-        sb.append(baseUrl + subUrl + "?" + "authKey=" + authKey + "&" + "format=" + format + "&");
-        for (Field field : dto.getClass().getDeclaredFields()) {
-            field.setAccessible(true); //private 필드 접근 가능하게
-            Object value = field.get(dto);
-            if (value != null) {
-                sb.append(field.getName() + "=" + value.toString() + "&");
-            }
+        StringBuilder sb = new StringBuilder(baseUrl.length() + subUrl.length() + query.length() + 64);
+
+        // url 에 request Param 추가 (query 는 OpenAPIQueryEncoder 에서 인코딩됨)
+        sb.append(baseUrl).append(subUrl)
+                .append("?authKey=").append(authKey)
+                .append("&format=").append(format);
+        if (!query.isEmpty()) {
+            sb.append('&').append(query);
         }
-        String fullUrl = sb.substring(0, sb.length() - 1); // 맨마지막 & 삭제
+        return new URI(sb.toString());
+    }
 
-        return new URL(fullUrl);
+    // 캐시 key = subUrl + 필드명 순으로 정렬한 request 파라미터 (null 필드 제외)
+    private String cacheKey(String subUrl, String query) {
+        return subUrl + "?" + query;
     }
 
-    /* InputStream 을 json 파싱 */
-    private JSONObject readStreamToJson(InputStreamReader streamResponse, OpenAPIResponseInterface responseDto) throws Exception {
+    /* 응답 body 를 json 파싱 */
+    private JSONObject readStreamToJson(String fullResponse, OpenAPIResponseInterface responseDto) {
         log.trace("OpenAPI > readStreamToJson()");
-        String fullResponse = new BufferedReader(streamResponse).readLine();
         JSONObject jsonObject;
 
         // response JSON 파싱
@@ -95,13 +279,40 @@ public class OpenAPI {
             throw new CustomException(ErrorCode.INVALID_OPENAPI_RESPONSE);
         }
 
-        JSONObject response = (JSONObject) jsonObject.get("response");
+        return (JSONObject) jsonObject.get("response");
+    }
 
+    // 에러 응답은 캐시하지 않음 (JSON 트리를 만들지 않고 스트리밍으로 확인)
+    private void validate(String body) {
         // API 일일 호출 횟수 초과 에러 (일 최대 500건)
-        if(response.get("error") != null){
+        if (streamParser.hasError(body)) {
+            quotaManager.markExhausted();
             throw new CustomException(ErrorCode.API_CALL_LIMIT_EXCEEDED);
         }
-        return response;
     }
-}
 
+    // 호출 한도 초과, circuit open, 타임아웃 등으로 응답을 못 받았으면, TTL 이 지났더라도 마지막 정상 응답으로 대체
+    private CompletableFuture<String> fallbackToStale(Throwable e, OpenAPIEndpoint endpoint, String cacheKey) {
+        String staleBody = responseCache.getStale(cacheKey);
+        if (staleBody != null) {
+            Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+            log.warn("OpenAPI 응답을 받지 못해 캐시된 이전 응답을 반환합니다: " + cacheKey + " (" + cause.getMessage() + ")");
+            meterRegistry.counter("openapi.stale.served", "endpoint", endpoint.getSubUrl()).increment();
+            return CompletableFuture.completedFuture(staleBody);
+        }
+        return CompletableFuture.failedFuture(e);
+    }
+
+    private boolean isTimeout(Throwable e) {
+        Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+        return cause instanceof TimeoutException || cause instanceof HttpTimeoutException;
+    }
+
+    private Exception unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof Exception exception) {
+            return exception;
+        }
+        return e;
+    }
+}
@@ -0,0 +1,136 @@
+package com.book.backend.domain.openapi.service;
+
+import com.book.backend.domain.openapi.entity.OpenAPIEndpoint;
+import com.book.backend.domain.openapi.entity.OpenAPIEndpointFamily;
+import com.book.backend.exception.CustomException;
+import com.book.backend.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/*
+    OpenAPI endpoint 묶음(family)별 동시 호출 수 제한
+    묶음마다 maxConcurrent 개까지만 동시에 upstream 으로 보내고, 나머지는 maxQueue 개까지 대기, 그 이상은 바로 거절
+    느린 트렌드 호출이 몰려도 상세, 검색 호출은 자기 몫의 동시 호출 수를 그대로 사용할 수 있음
+*/
+@Component
+@Slf4j
+public class OpenAPIBulkhead {
+    private final MeterRegistry meterRegistry;
+    private final Map<OpenAPIEndpointFamily, Compartment> compartments = new EnumMap<>(OpenAPIEndpointFamily.class);
+
+    public OpenAPIBulkhead(MeterRegistry meterRegistry, Environment environment) {
+        this.meterRegistry = meterRegistry;
+        for (OpenAPIEndpointFamily family : OpenAPIEndpointFamily.values()) {
+            String prefix = "openapi.bulkhead." + family.getKey() + ".";
+            Compartment compartment = new Compartment(family,
+                    environment.getRequiredProperty(prefix + "maxConcurrent", Integer.class),
+                    environment.getRequiredProperty(prefix + "maxQueue", Integer.class));
+            compartments.put(family, compartment);
+
+            Tags tags = Tags.of("family", family.getKey());
+            meterRegistry.gauge("openapi.bulkhead.active", tags, compartment, Compartment::active);
+            meterRegistry.gauge("openapi.bulkhead.queued", tags, compartment, Compartment::queued);
+        }
+    }
+
+    // 반환된 future 를 취소하면 대기 중인 요청은 보내지 않고, 이미 보낸 요청은 취소함
+    public <T> CompletableFuture<T> execute(OpenAPIEndpoint endpoint, Supplier<CompletableFuture<T>> request) {
+        return compartments.get(endpoint.getFamily()).execute(request);
+    }
+
+    private class Compartment {
+        private final OpenAPIEndpointFamily family;
+        private final int maxConcurrent;
+        private final int maxQueue;
+        private final ArrayDeque<Runnable> waiting = new ArrayDeque<>();
+        private int running;
+
+        Compartment(OpenAPIEndpointFamily family, int maxConcurrent, int maxQueue) {
+            this.family = family;
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueue = maxQueue;
+        }
+
+        <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> request) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            Runnable start = () -> start(request, result);
+
+            boolean queued;
+            synchronized (this) {
+                queued = running >= maxConcurrent;
+                if (queued) {
+                    if (waiting.size() >= maxQueue) {
+                        log.warn("OpenAPI 동시 호출 수 제한으로 요청을 거절합니다. (" + family + ", 실행 " + running + ", 대기 " + waiting.size() + ")");
+                        meterRegistry.counter("openapi.bulkhead.rejected", "family", family.getKey()).increment();
+                        return CompletableFuture.failedFuture(new CustomException(ErrorCode.OPENAPI_BULKHEAD_FULL));
+                    }
+                    waiting.add(start);
+                } else {
+                    running++;
+                }
+            }
+            if (queued) {
+                // 대기 중에 호출자가 취소하거나 시간이 초과되면 대기열에서 빼서 maxQueue 를 차지하지 않도록 함 (이미 시작했으면 영향 없음)
+                result.whenComplete((response, e) -> removeWaiting(start));
+            } else {
+                start.run();
+            }
+            return result;
+        }
+
+        private <T> void start(Supplier<CompletableFuture<T>> request, CompletableFuture<T> result) {
+            if (result.isDone()) { // 대기 중에 호출자가 취소함
+                release();
+                return;
+            }
+
+            CompletableFuture<T> upstream;
+            try {
+                upstream = request.get();
+            } catch (Exception e) {
+                upstream = CompletableFuture.failedFuture(e);
+            }
+            CompletableFuture<T> started = upstream;
+            started.whenComplete((response, e) -> {
+                release();
+                if (e != null) result.completeExceptionally(e);
+                else result.complete(response);
+            });
+            result.whenComplete((response, e) -> started.cancel(true)); // 이미 끝났으면 영향 없음
+        }
+
+        // 끝난 요청 자리에 대기 중인 요청을 이어서 실행
+        private void release() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    running--;
+                    return;
+                }
+            }
+            next.run();
+        }
+
+        private synchronized void removeWaiting(Runnable start) {
+            waiting.remove(start);
+        }
+
+        synchronized int active() {
+            return running;
+        }
+
+        synchronized int queued() {
+            return waiting.size();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.book.backend.domain.openapi.service;
+
+import com.book.backend.domain.openapi.entity.OpenAPIEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+    OpenAPI endpoint 별 circuit breaker
+    CLOSED    : 최근 windowSize 번의 호출 중 실패(타임아웃, 5xx, 연결 실패) 비율이 failureRateThreshold 이상이면 OPEN
+    OPEN      : openDuration 동안 upstream 을 호출하지 않음 (OpenAPI 가 캐시된 이전 응답으로 대체)
+    HALF_OPEN : probeRatio 비율의 요청만 upstream 으로 보내서, probeSuccesses 번 연속 성공하면 CLOSED, 한 번이라도 실패하면 다시 OPEN
+*/
+@Component
+@Slf4j
+public class OpenAPICircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final MeterRegistry meterRegistry;
+    private final int windowSize;
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final Duration openDuration;
+    private final double probeRatio;
+    private final int probeSuccesses;
+    private final Map<OpenAPIEndpoint, Circuit> circuits = new EnumMap<>(OpenAPIEndpoint.class);
+
+    public OpenAPICircuitBreaker(MeterRegistry meterRegistry,
+                                 @Value("${openapi.circuitBreaker.windowSize}") int windowSize,
+                                 @Value("${openapi.circuitBreaker.minCalls}") int minCalls,
+                                 @Value("${openapi.circuitBreaker.failureRateThreshold}") double failureRateThreshold,
+                                 @Value("${openapi.circuitBreaker.openSeconds}") long openSeconds,
+                                 @Value("${openapi.circuitBreaker.probeRatio}") double probeRatio,
+                                 @Value("${openapi.circuitBreaker.probeSuccesses}") int probeSuccesses) {
+        this.meterRegistry = meterRegistry;
+        this.windowSize = windowSize;
+        this.minCalls = minCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = Duration.ofSeconds(openSeconds);
+        this.probeRatio = probeRatio;
+        this.probeSuccesses = probeSuccesses;
+        for (OpenAPIEndpoint endpoint : OpenAPIEndpoint.values()) {
+            Circuit circuit = new Circuit(endpoint);
+            circuits.put(endpoint, circuit);
+            meterRegistry.gauge("openapi.circuit.state", Tags.of("endpoint", endpoint.getSubUrl()),
+                    circuit, c -> c.state.ordinal());
+        }
+    }
+
+    // upstream 을 호출해도 되는지 확인 (false 면 호출하지 않고 이전 응답으로 대체)
+    public boolean tryAcquirePermission(OpenAPIEndpoint endpoint) {
+        return circuits.get(endpoint).tryAcquirePermission();
+    }
+
+    public void onSuccess(OpenAPIEndpoint endpoint) {
+        circuits.get(endpoint).record(true);
+    }
+
+    public void onFailure(OpenAPIEndpoint endpoint) {
+        circuits.get(endpoint).record(false);
+    }
+
+    private class Circuit {
+        private final OpenAPIEndpoint endpoint;
+        private final boolean[] outcomes = new boolean[windowSize]; // true = 실패
+        private int next;
+        private int calls;
+        private int failures;
+        private volatile State state = State.CLOSED;
+        private long openedAt;
+        private int probeSuccessCount;
+
+        Circuit(OpenAPIEndpoint endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        synchronized boolean tryAcquirePermission() {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAt < openDuration.toNanos()) {
+                    meterRegistry.counter("openapi.circuit.rejected", "endpoint", endpoint.getSubUrl()).increment();
+                    return false;
+                }
+                transition(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN && ThreadLocalRandom.current().nextDouble() >= probeRatio) {
+                meterRegistry.counter("openapi.circuit.rejected", "endpoint", endpoint.getSubUrl()).increment();
+                return false;
+            }
+            return true;
+        }
+
+        synchronized void record(boolean success) {
+            if (state == State.HALF_OPEN) {
+                if (!success) {
+                    transition(State.OPEN);
+                } else if (++probeSuccessCount >= probeSuccesses) {
+                    transition(State.CLOSED);
+                }
+                return;
+            }
+            if (state == State.OPEN) { // OPEN 되기 전에 보낸 요청의 결과는 무시
+                return;
+            }
+
+            if (calls == windowSize && outcomes[next]) {
+                failures--;
+            }
+            outcomes[next] = !success;
+            if (!success) {
+                failures++;
+            }
+            next = (next + 1) % windowSize;
+            calls = Math.min(calls + 1, windowSize);
+
+            if (calls >= minCalls && (double) failures / calls >= failureRateThreshold) {
+                transition(State.OPEN);
+            }
+        }
+
+        private void transition(State newState) {
+            log.warn("OpenAPI circuit breaker 상태 변경: " + endpoint.getSubUrl() + " " + state + " -> " + newState);
+            state = newState;
+            probeSuccessCount = 0;
+            if (newState == State.OPEN) {
+                openedAt = System.nanoTime();
+            }
+            if (newState == State.CLOSED) { // 다시 닫히면 실패 기록 초기화
+                next = 0;
+                calls = 0;
+                failures = 0;
+            }
+        }
+    }
+}
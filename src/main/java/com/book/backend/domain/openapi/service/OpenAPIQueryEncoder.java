@@ -0,0 +1,138 @@
+package com.book.backend.domain.openapi.service;
+
+import com.book.backend.domain.openapi.dto.request.OpenAPIRequestInterface;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    OpenAPI request DTO -> query string 변환
+    DTO 클래스마다 필드 접근자(MethodHandle)와 파라미터 이름을 서버 시작 시 한 번만 만들어두고,
+    호출 시에는 스레드별 버퍼에 percent-encoding 된 파라미터만 써서 반환
+    파라미터는 이름순으로 정렬되므로 같은 요청은 항상 같은 query string (캐시 key 로도 사용)
+*/
+@Component
+@Slf4j
+public class OpenAPIQueryEncoder {
+    private static final String BASE_PACKAGE = "com.book.backend";
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final ConcurrentHashMap<Class<?>, DtoEncoder> encoders = new ConcurrentHashMap<>();
+    private final ThreadLocal<StringBuilder> buffer = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    public OpenAPIQueryEncoder() {
+        // OpenAPIRequestInterface 구현체를 모두 찾아서 미리 encoder 생성
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(OpenAPIRequestInterface.class));
+        for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            try {
+                Class<?> dtoClass = ClassUtils.forName(candidate.getBeanClassName(), getClass().getClassLoader());
+                encoders.put(dtoClass, compile(dtoClass));
+            } catch (ClassNotFoundException e) {
+                log.warn("OpenAPI request DTO 를 불러오지 못했습니다: " + candidate.getBeanClassName());
+            }
+        }
+        log.info("OpenAPI query encoder 생성 완료: " + encoders.size() + "개");
+    }
+
+    // "name=value&name=value" (null 필드 제외, 맨 앞/뒤 & 없음)
+    public String encode(OpenAPIRequestInterface dto) {
+        DtoEncoder encoder = encoders.computeIfAbsent(dto.getClass(), this::compile); // 스캔 범위 밖의 클래스는 처음 쓸 때 생성
+        StringBuilder sb = buffer.get();
+        sb.setLength(0);
+        encoder.writeTo(dto, sb);
+        return sb.toString();
+    }
+
+    private DtoEncoder compile(Class<?> dtoClass) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(dtoClass, MethodHandles.lookup());
+            List<Field> fields = Arrays.stream(dtoClass.getDeclaredFields())
+                    .filter(field -> !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic())
+                    .sorted(Comparator.comparing(Field::getName))
+                    .toList();
+
+            Param[] params = new Param[fields.size()];
+            for (int i = 0; i < params.length; i++) {
+                Field field = fields.get(i);
+                MethodHandle getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+                params[i] = new Param(percentEncode(field.getName()) + "=", getter);
+            }
+            return new DtoEncoder(params);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("OpenAPI request DTO 필드에 접근할 수 없습니다: " + dtoClass.getName(), e);
+        }
+    }
+
+    private record Param(String prefix, MethodHandle getter) { }
+
+    private record DtoEncoder(Param[] params) {
+        void writeTo(Object dto, StringBuilder sb) {
+            for (Param param : params) {
+                Object value;
+                try {
+                    value = param.getter().invokeExact(dto);
+                } catch (Throwable e) {
+                    throw new IllegalStateException("OpenAPI request 파라미터를 읽지 못했습니다: " + param.prefix(), e);
+                }
+                if (value == null) {
+                    continue;
+                }
+                if (!sb.isEmpty()) {
+                    sb.append('&');
+                }
+                sb.append(param.prefix());
+                appendEncoded(sb, value.toString());
+            }
+        }
+    }
+
+    private static String percentEncode(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        appendEncoded(sb, value);
+        return sb.toString();
+    }
+
+    // RFC 3986 unreserved 문자는 그대로, 나머지(공백, 한글 등)는 UTF-8 바이트 단위로 %XX
+    private static void appendEncoded(StringBuilder sb, String value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length && isUnreserved(value.charAt(i))) {
+            i++;
+        }
+        if (i == length) { // 대부분의 파라미터(날짜, 코드, 숫자)는 인코딩할 문자가 없음
+            sb.append(value);
+            return;
+        }
+
+        sb.append(value, 0, i);
+        for (byte b : value.substring(i).getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if (isUnreserved(c)) {
+                sb.append(c);
+            } else {
+                sb.append('%').append(HEX[(b >> 4) & 0x0F]).append(HEX[b & 0x0F]);
+            }
+        }
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '_' || c == '.' || c == '~';
+    }
+}
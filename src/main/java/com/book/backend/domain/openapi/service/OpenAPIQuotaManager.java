@@ -0,0 +1,86 @@
+package com.book.backend.domain.openapi.service;
+
+import com.book.backend.domain.openapi.entity.OpenAPIEndpoint;
+import com.book.backend.domain.openapi.entity.OpenAPIPriority;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    OpenAPI 일일 호출 한도 관리 (Redis 카운터로 모든 서버의 호출 수 합산)
+    우선순위가 낮은 호출은 한도의 일부까지만 사용할 수 있어서, 남은 한도는 사용자가 직접 기다리는 호출(상세, 검색)에 쓰임
+*/
+@Component
+@Slf4j
+public class OpenAPIQuotaManager {
+    private static final String KEY_PREFIX = "openapi:quota:";
+    private static final Duration KEY_TTL = Duration.ofDays(2);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long dailyLimit;
+    private final AtomicLong usedToday = new AtomicLong(); // 마지막으로 확인한 오늘 사용량 (지표용)
+
+    public OpenAPIQuotaManager(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry,
+                               @Value("${openapi.quota.dailyLimit}") long dailyLimit) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.dailyLimit = dailyLimit;
+        meterRegistry.gauge("openapi.quota.remaining", usedToday, used -> Math.max(dailyLimit - used.get(), 0));
+    }
+
+    // 호출 1회분 한도 차감, 우선순위에 할당된 한도를 넘으면 차감하지 않고 false 반환
+    public boolean tryAcquire(OpenAPIEndpoint endpoint, OpenAPIPriority priority) {
+        log.trace("OpenAPIQuotaManager > tryAcquire()");
+        String key = todayKey();
+        long allowed = (long) (dailyLimit * priority.getBudgetRatio());
+
+        try {
+            Long used = redisTemplate.opsForValue().increment(key);
+            if (used == null) {
+                return true;
+            }
+            if (used == 1) {
+                redisTemplate.expire(key, KEY_TTL);
+            }
+
+            if (used > allowed) {
+                redisTemplate.opsForValue().decrement(key); // 차감 취소
+                usedToday.set(used - 1);
+                log.warn("OpenAPI 호출 한도에 따라 요청을 차단합니다. (" + endpoint.getSubUrl() + ", " + priority + ", " + (used - 1) + "/" + dailyLimit + ")");
+                meterRegistry.counter("openapi.quota.rejected", "endpoint", endpoint.getSubUrl(), "priority", priority.name()).increment();
+                return false;
+            }
+
+            usedToday.set(used);
+            redisTemplate.opsForHash().increment(key + ":endpoint", endpoint.getSubUrl(), 1L);
+            redisTemplate.expire(key + ":endpoint", KEY_TTL);
+        } catch (Exception e) { // Redis 장애 시에는 호출을 막지 않음
+            log.warn("OpenAPI 호출 한도를 확인하지 못했습니다: " + e.getMessage());
+        }
+
+        meterRegistry.counter("openapi.quota.consumed", "endpoint", endpoint.getSubUrl()).increment();
+        return true;
+    }
+
+    // OpenAPI 서버가 한도 초과 응답을 보내면 오늘 남은 한도를 모두 소진 처리
+    public void markExhausted() {
+        log.trace("OpenAPIQuotaManager > markExhausted()");
+        try {
+            redisTemplate.opsForValue().set(todayKey(), String.valueOf(dailyLimit), KEY_TTL);
+            usedToday.set(dailyLimit);
+        } catch (Exception e) {
+            log.warn("OpenAPI 호출 한도를 갱신하지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    private String todayKey() {
+        return KEY_PREFIX + LocalDate.now();
+    }
+}
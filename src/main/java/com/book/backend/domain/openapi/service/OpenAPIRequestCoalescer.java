@@ -0,0 +1,52 @@
+package com.book.backend.domain.openapi.service;
+
+import com.book.backend.domain.openapi.entity.OpenAPIEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/* 같은 endpoint + 파라미터로 동시에 들어온 OpenAPI 호출을 하나로 합쳐서, 먼저 보낸 요청의 결과(또는 실패)를 함께 받음 */
+@Component
+@Slf4j
+public class OpenAPIRequestCoalescer {
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlightRequests = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public OpenAPIRequestCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("openapi.coalescer.inflight", inFlightRequests, ConcurrentHashMap::size);
+    }
+
+    public CompletableFuture<String> execute(OpenAPIEndpoint endpoint, String key, Supplier<CompletableFuture<String>> request) {
+        log.trace("OpenAPIRequestCoalescer > execute()");
+        meterRegistry.counter("openapi.coalescer.calls", "endpoint", endpoint.getSubUrl()).increment();
+
+        CompletableFuture<String> shared = new CompletableFuture<>();
+        CompletableFuture<String> inFlight = inFlightRequests.putIfAbsent(key, shared);
+        if (inFlight != null) { // 이미 같은 요청이 진행 중이면 그 결과를 기다림
+            log.trace("OpenAPI request coalesced: " + key);
+            meterRegistry.counter("openapi.coalescer.collapsed", "endpoint", endpoint.getSubUrl()).increment();
+            return inFlight.copy(); // 한 호출자가 취소해도 다른 호출자에게 영향 없도록 복사본 반환
+        }
+
+        CompletableFuture<String> upstream;
+        try {
+            upstream = request.get();
+        } catch (Exception e) {
+            upstream = CompletableFuture.failedFuture(e);
+        }
+        upstream.whenComplete((response, e) -> {
+            inFlightRequests.remove(key, shared); // 완료 후에 들어온 요청은 새로 호출 (또는 캐시 조회)
+            if (e != null) {
+                shared.completeExceptionally(e);
+            } else {
+                shared.complete(response);
+            }
+        });
+        return shared.copy();
+    }
+}
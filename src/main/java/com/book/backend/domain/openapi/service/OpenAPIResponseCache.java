@@ -0,0 +1,130 @@
+package com.book.backend.domain.openapi.service;
+
+import com.book.backend.domain.openapi.entity.OpenAPIEndpoint;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/*
+    OpenAPI 응답 캐시
+    L1 : 서버 내부 메모리 (응답 크기 기준으로 제한, 초과 시 eviction)
+    L2 : Redis (서버 여러 대가 공유, TTL 이 지난 응답도 staleRetention 동안 보관해서 fallback 으로 사용)
+*/
+@Component
+@Slf4j
+public class OpenAPIResponseCache {
+    private static final String KEY_PREFIX = "openapi:";
+    private static final String SEPARATOR = "\n";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<String, CachedResponse> localCache;
+    private final Duration staleRetention;
+
+    public OpenAPIResponseCache(RedisTemplate<String, String> redisTemplate,
+                                @Value("${openapi.cache.localMaxChars}") long localMaxChars,
+                                @Value("${openapi.cache.staleRetentionHours}") long staleRetentionHours) {
+        this.redisTemplate = redisTemplate;
+        this.staleRetention = Duration.ofHours(staleRetentionHours);
+        this.localCache = Caffeine.newBuilder()
+                .maximumWeight(localMaxChars)
+                .weigher((String key, CachedResponse value) -> value.body().length())
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+                        return value.remainingNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+                        return value.remainingNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    // TTL 이 지나지 않은 응답 body 반환 (없으면 null)
+    public String get(String key) {
+        log.trace("OpenAPIResponseCache > get()");
+        CachedResponse local = localCache.getIfPresent(key);
+        if (local != null) {
+            return local.body();
+        }
+
+        CachedResponse remote = getFromRedis(key);
+        if (remote == null || !remote.isFresh()) {
+            return null;
+        }
+        localCache.put(key, remote); // L2 hit 이면 L1 에도 채워둠 (남은 TTL 만큼만)
+        return remote.body();
+    }
+
+    // TTL 이 지났더라도 보관 중인 마지막 정상 응답 body 반환 (없으면 null)
+    public String getStale(String key) {
+        log.trace("OpenAPIResponseCache > getStale()");
+        CachedResponse local = localCache.getIfPresent(key);
+        if (local != null) {
+            return local.body();
+        }
+
+        CachedResponse remote = getFromRedis(key);
+        return remote == null ? null : remote.body();
+    }
+
+    public void put(OpenAPIEndpoint endpoint, String key, String body) {
+        log.trace("OpenAPIResponseCache > put()");
+        Duration ttl = endpoint.getCacheTtl();
+        CachedResponse response = new CachedResponse(body, System.currentTimeMillis(), ttl.toMillis());
+        localCache.put(key, response);
+
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, response.encode(), ttl.plus(staleRetention));
+        } catch (Exception e) { // Redis 장애 시에도 L1 만으로 동작
+            log.warn("OpenAPI 응답을 Redis 에 저장하지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    private CachedResponse getFromRedis(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            return value == null ? null : CachedResponse.decode(value);
+        } catch (Exception e) {
+            log.warn("Redis 에서 OpenAPI 응답을 조회하지 못했습니다: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Redis 에는 "저장시각\nTTL\nbody" 형태로 저장
+    private record CachedResponse(String body, long storedAt, long ttlMillis) {
+        boolean isFresh() {
+            return storedAt + ttlMillis > System.currentTimeMillis();
+        }
+
+        long remainingNanos() {
+            long remainingMillis = storedAt + ttlMillis - System.currentTimeMillis();
+            return Duration.ofMillis(Math.max(remainingMillis, 0)).toNanos();
+        }
+
+        String encode() {
+            return storedAt + SEPARATOR + ttlMillis + SEPARATOR + body;
+        }
+
+        static CachedResponse decode(String value) {
+            int first = value.indexOf(SEPARATOR);
+            int second = value.indexOf(SEPARATOR, first + 1);
+            long storedAt = Long.parseLong(value.substring(0, first));
+            long ttlMillis = Long.parseLong(value.substring(first + 1, second));
+            return new CachedResponse(value.substring(second + 1), storedAt, ttlMillis);
+        }
+    }
+}
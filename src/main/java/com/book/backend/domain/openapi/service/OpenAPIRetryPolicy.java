@@ -0,0 +1,129 @@
+package com.book.backend.domain.openapi.service;
+
+import com.book.backend.domain.openapi.entity.OpenAPIEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+    OpenAPI 재시도 정책
+    - 시도별 타임아웃 : endpoint 별 최근 응답 시간의 p99 * timeoutMultiplier (서비스가 넘긴 timeoutSeconds 가 상한)
+    - 재시도 간격 : full jitter exponential backoff (0 ~ min(maxBackoff, baseBackoff * 2^n) 중 랜덤)
+    - hedge : 첫 시도가 p95 가 지나도 응답이 없으면 같은 요청을 한 번 더 보내고 먼저 온 응답 사용
+    표본이 minSamples 보다 적으면 서비스가 넘긴 timeoutSeconds 를 그대로 쓰고 hedge 하지 않음
+*/
+@Component
+@Slf4j
+public class OpenAPIRetryPolicy {
+    private static final int WINDOW_SIZE = 256; // endpoint 별로 보관하는 최근 응답 시간 개수
+
+    private final MeterRegistry meterRegistry;
+    private final Duration totalDeadline;
+    private final Duration minTimeout;
+    private final double timeoutMultiplier;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final boolean hedgeEnabled;
+    private final int minSamples;
+    private final Map<OpenAPIEndpoint, LatencyWindow> latencies = new EnumMap<>(OpenAPIEndpoint.class);
+
+    public OpenAPIRetryPolicy(MeterRegistry meterRegistry,
+                              @Value("${openapi.retry.totalDeadlineMillis}") long totalDeadlineMillis,
+                              @Value("${openapi.retry.minTimeoutMillis}") long minTimeoutMillis,
+                              @Value("${openapi.retry.timeoutMultiplier}") double timeoutMultiplier,
+                              @Value("${openapi.retry.baseBackoffMillis}") long baseBackoffMillis,
+                              @Value("${openapi.retry.maxBackoffMillis}") long maxBackoffMillis,
+                              @Value("${openapi.retry.hedgeEnabled}") boolean hedgeEnabled,
+                              @Value("${openapi.retry.minSamples}") int minSamples) {
+        this.meterRegistry = meterRegistry;
+        this.totalDeadline = Duration.ofMillis(totalDeadlineMillis);
+        this.minTimeout = Duration.ofMillis(minTimeoutMillis);
+        this.timeoutMultiplier = timeoutMultiplier;
+        this.baseBackoff = Duration.ofMillis(baseBackoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.hedgeEnabled = hedgeEnabled;
+        this.minSamples = minSamples;
+        for (OpenAPIEndpoint endpoint : OpenAPIEndpoint.values()) {
+            latencies.put(endpoint, new LatencyWindow());
+        }
+    }
+
+    // 재시도를 포함한 한 번의 connect 호출이 끝나야 하는 시각 (System.nanoTime 기준)
+    public long deadlineNanos() {
+        return System.nanoTime() + totalDeadline.toNanos();
+    }
+
+    public Duration attemptTimeout(OpenAPIEndpoint endpoint, Duration upperBound) {
+        long p99 = latencies.get(endpoint).percentile(0.99, minSamples);
+        if (p99 < 0) {
+            return upperBound;
+        }
+        long adaptive = Math.max((long) (p99 * timeoutMultiplier), minTimeout.toNanos());
+        return Duration.ofNanos(Math.min(adaptive, upperBound.toNanos()));
+    }
+
+    // 표본이 부족하거나 hedge 를 끈 경우 null
+    public Duration hedgeDelay(OpenAPIEndpoint endpoint) {
+        if (!hedgeEnabled) {
+            return null;
+        }
+        long p95 = latencies.get(endpoint).percentile(0.95, minSamples);
+        return p95 < 0 ? null : Duration.ofNanos(p95);
+    }
+
+    public Duration backoff(int retryCount) {
+        long cap = Math.min(maxBackoff.toMillis(), baseBackoff.toMillis() << Math.min(retryCount, 20));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1));
+    }
+
+    // 정상 응답의 소요 시간만 기록 (타임아웃은 표본을 늘리면 다음 타임아웃도 같이 늘어나서 제외)
+    public void record(OpenAPIEndpoint endpoint, long elapsedNanos) {
+        latencies.get(endpoint).add(elapsedNanos);
+        Timer.builder("openapi.latency")
+                .tag("endpoint", endpoint.getSubUrl())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRetry(OpenAPIEndpoint endpoint) {
+        meterRegistry.counter("openapi.retry", "endpoint", endpoint.getSubUrl()).increment();
+    }
+
+    public void recordHedge(OpenAPIEndpoint endpoint) {
+        meterRegistry.counter("openapi.hedge", "endpoint", endpoint.getSubUrl()).increment();
+    }
+
+    // 최근 WINDOW_SIZE 개 응답 시간 (ring buffer)
+    private static class LatencyWindow {
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int next;
+        private int size;
+
+        synchronized void add(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % WINDOW_SIZE;
+            size = Math.min(size + 1, WINDOW_SIZE);
+        }
+
+        // 표본이 minSamples 보다 적으면 -1
+        synchronized long percentile(double percentile, int minSamples) {
+            if (size < Math.max(minSamples, 1)) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * size) - 1;
+            return sorted[Math.max(index, 0)];
+        }
+    }
+}
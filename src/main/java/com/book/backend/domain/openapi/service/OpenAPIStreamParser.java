@@ -0,0 +1,165 @@
+package com.book.backend.domain.openapi.service;
+
+import com.book.backend.domain.book.dto.BookInfoDto;
+import com.book.backend.exception.CustomException;
+import com.book.backend.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/*
+    OpenAPI 응답을 JSON 트리로 만들지 않고 토큰 단위로 읽어서 DTO 로 바로 변환
+    response.docs[].doc 을 앞에서부터 읽고, limit 개를 채우면 나머지는 파싱하지 않음
+    장르 순위 (newTrend 처럼 1200건짜리 응답) 는 트렌드 스냅샷이 전체 목록을 보관하므로 조기 종료 없이 스냅샷을 만들 때 한 번만
+    끝까지 파싱하고, 모든 페이지는 스냅샷을 잘라서 응답 (페이지마다 앞부분부터 다시 파싱하는 것보다 적게 읽음)
+*/
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OpenAPIStreamParser {
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final BookRecordPool bookRecordPool; // 같은 책은 책 정보 문자열을 공유
+
+    /*
+        filter 를 통과한 doc 중 앞의 skip 개를 건너뛰고 limit 개까지 반환
+        filter 는 doc 순서대로 한 번씩만 호출됨 (중복 체크처럼 상태를 가진 filter 사용 가능)
+    */
+    public <T> LinkedList<T> docs(String body, Class<T> docType, Predicate<T> filter, int skip, int limit) {
+        log.trace("OpenAPIStreamParser > docs()");
+        LinkedList<T> responseList = new LinkedList<>();
+        if (limit <= 0) {
+            return responseList;
+        }
+
+        ObjectReader reader = objectMapper.readerFor(docType);
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT
+                    || !moveToField(parser, "response") || parser.currentToken() != JsonToken.START_OBJECT
+                    || !moveToField(parser, "docs") || parser.currentToken() != JsonToken.START_ARRAY) {
+                return responseList;
+            }
+
+            int matched = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) { // docs 원소 = {"doc": {...}}
+                if (!moveToField(parser, "doc")) {
+                    continue;
+                }
+                T doc = reader.readValue(parser);
+                skipRemainingFields(parser);
+
+                if (doc == null || !filter.test(doc) || matched++ < skip) {
+                    continue;
+                }
+                responseList.add(bookRecordPool.intern(doc));
+                if (responseList.size() >= limit) {
+                    break; // 필요한 만큼 채웠으면 나머지 docs 는 읽지 않음
+                }
+            }
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.INVALID_OPENAPI_RESPONSE);
+        }
+        return responseList;
+    }
+
+    // response.error 필드가 있는지 확인 (API 일일 호출 횟수 초과 등)
+    public boolean hasError(String body) {
+        log.trace("OpenAPIStreamParser > hasError()");
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT
+                    || !moveToField(parser, "response") || parser.currentToken() != JsonToken.START_OBJECT) {
+                throw new CustomException(ErrorCode.INVALID_OPENAPI_RESPONSE);
+            }
+            return moveToField(parser, "error");
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.INVALID_OPENAPI_RESPONSE);
+        }
+    }
+
+    // 응답 안에서 isbn13, bookname 을 가진 모든 객체의 책 정보 (docs[].doc, docs[].book, book, coLoanBooks[].book 등 endpoint 구분 없이)
+    public LinkedList<BookInfoDto> books(String body) {
+        log.trace("OpenAPIStreamParser > books()");
+        LinkedList<BookInfoDto> books = new LinkedList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                collectBooks(parser, books);
+            }
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.INVALID_OPENAPI_RESPONSE);
+        }
+        return books;
+    }
+
+    // 현재 객체를 끝까지 읽으면서, 하위 객체를 포함해 책 정보를 가진 객체를 수집
+    private void collectBooks(JsonParser parser, List<BookInfoDto> books) throws IOException {
+        String isbn13 = null, bookname = null, authors = null, bookImageURL = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_OBJECT) {
+                collectBooks(parser, books);
+            } else if (value == JsonToken.START_ARRAY) {
+                collectBooksInArray(parser, books);
+            } else if (value != null && value.isScalarValue()) {
+                switch (name) {
+                    case "isbn13" -> isbn13 = parser.getValueAsString();
+                    case "bookname" -> bookname = parser.getValueAsString();
+                    case "authors" -> authors = parser.getValueAsString();
+                    case "bookImageURL" -> bookImageURL = parser.getValueAsString();
+                    default -> { }
+                }
+            }
+        }
+
+        if (isbn13 != null && !isbn13.isBlank() && bookname != null && !bookname.isBlank()) {
+            books.add(BookInfoDto.builder()
+                    .isbn13(isbn13)
+                    .bookname(bookname)
+                    .authors(authors)
+                    .bookImageURL(bookImageURL)
+                    .build());
+        }
+    }
+
+    private void collectBooksInArray(JsonParser parser, List<BookInfoDto> books) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                collectBooks(parser, books);
+            } else if (token == JsonToken.START_ARRAY) {
+                collectBooksInArray(parser, books);
+            }
+        }
+    }
+
+    // 현재 객체에서 fieldName 필드의 값 토큰으로 이동 (다른 필드 값은 건너뜀), 없으면 객체 끝에서 false 반환
+    private boolean moveToField(JsonParser parser, String fieldName) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (fieldName.equals(name)) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private void skipRemainingFields(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            parser.nextToken();
+            parser.skipChildren();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.book.backend.domain.openapi.service;
+
+import com.book.backend.exception.CustomException;
+import com.book.backend.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/* OpenAPI 호출 전용 HTTP 클라이언트 (keep-alive 커넥션 풀 재사용, 요청별 deadline, 타임아웃 시 요청 취소) */
+@Component
+@Slf4j
+public class OpenAPITransport {
+    private final HttpClient httpClient;
+    private final ExecutorService executorService;
+
+    public OpenAPITransport(@Value("${openapi.transport.connectTimeoutMillis}") long connectTimeoutMillis,
+                            @Value("${openapi.transport.maxThreads}") int maxThreads) {
+        this.executorService = Executors.newFixedThreadPool(maxThreads, namedThreadFactory("openapi-http-"));
+        // HttpClient 는 내부적으로 커넥션 풀을 유지하므로 인스턴스 하나를 재사용해야 TCP/TLS 핸드셰이크가 반복되지 않음
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executorService)
+                .build();
+    }
+
+    // deadline 안에 응답 body 를 다 받지 못하면 TimeoutException 으로 완료되고, 진행 중이던 요청은 취소됨
+    public CompletableFuture<String> get(URI uri, Duration deadline) {
+        log.trace("OpenAPITransport > get()");
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(deadline) // 응답 헤더 수신까지의 타임아웃
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        CompletableFuture<HttpResponse<String>> exchange = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        CompletableFuture<String> body = exchange.thenApply(this::readBody);
+
+        // body 수신까지 포함한 전체 deadline, 초과하거나 호출자가 취소하면 실제 요청도 취소해서 스레드, 소켓 반환
+        body.orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, e) -> {
+                    if (e != null) exchange.cancel(true);
+                });
+        return body;
+    }
+
+    private String readBody(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            log.warn("OPEN API 서버 응답 코드 : " + response.statusCode());
+            throw new CustomException(ErrorCode.INVALID_OPENAPI_RESPONSE);
+        }
+        return response.body();
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+}
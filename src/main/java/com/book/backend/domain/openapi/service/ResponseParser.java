@@ -10,6 +10,7 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import net.minidev.json.JSONArray;
@@ -18,7 +19,9 @@ import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class ResponseParser {
+    private final BookRecordPool bookRecordPool; // 같은 책은 책 정보 문자열을 공유
 
     public LinkedList<RecommendListResponseDto> recommend(JSONObject jsonResponse) {
         log.trace("ResponseParser > recommend()");
@@ -39,7 +42,7 @@ public class ResponseParser {
             String duplicateCheckKey = book.getAsString("bookname") + book.getAsString("authors");
 
             if (duplicateCheckSet.add(duplicateCheckKey)) { // 중복 확인
-                responseList.add(RecommendListResponseDto.builder()
+                responseList.add(bookRecordPool.intern(RecommendListResponseDto.builder()
                         .bookname(book.getAsString("bookname"))
                         .authors(book.getAsString("authors"))
                         .publisher(book.getAsString("publisher"))
@@ -49,7 +52,7 @@ public class ResponseParser {
                         .class_no(book.getAsString("class_no"))
                         .class_nm(book.getAsString("class_nm"))
                         .bookImageURL(book.getAsString("bookImageURL"))
-                        .build());
+                        .build()));
             }
         }
         return responseList;
@@ -78,7 +81,7 @@ public class ResponseParser {
                 String duplicateCheckKey = doc.getAsString("bookname") + doc.getAsString("authors");
 
                 if (duplicateCheckSet.add(duplicateCheckKey)) { // 중복 확인
-                    responseList.add(HotTrendResponseDto.builder()
+                    responseList.add(bookRecordPool.intern(HotTrendResponseDto.builder()
                             .no(doc.getAsString("no"))
                             .difference(doc.getAsString("difference"))
                             .baseWeekRank(doc.getAsString("baseWeekRank"))
@@ -94,7 +97,7 @@ public class ResponseParser {
                             .class_nm(doc.getAsString("class_nm"))
                             .bookImageURL(doc.getAsString("bookImageURL"))
                             .bookDtlUrl(doc.getAsString("bookDtlUrl"))
-                            .build());
+                            .build()));
                 }
             }
         }
@@ -120,7 +123,7 @@ public class ResponseParser {
             String duplicateCheckKey = doc.getAsString("bookname") + doc.getAsString("authors");
 
             if (duplicateCheckSet.add(duplicateCheckKey)) {
-                responseList.add(LoanItemSrchResponseDto.builder()
+                responseList.add(bookRecordPool.intern(LoanItemSrchResponseDto.builder()
                         .no(doc.getAsString("no"))
                         .ranking(doc.getAsString("ranking"))
                         .bookname(doc.getAsString("bookname"))
@@ -134,7 +137,7 @@ public class ResponseParser {
                         .loan_count(doc.getAsString("loan_count"))
                         .bookImageURL(doc.getAsString("bookImageURL"))
                         .bookDtlUrl(doc.getAsString("bookDtlUrl"))
-                        .build());
+                        .build()));
             }
         }
         return responseList;
@@ -159,7 +162,7 @@ public class ResponseParser {
                     .weight(keyword.getAsString("weight"))
                     .build());
         }
-        return RandomPicker.randomPick(responseList, 10);
+        return responseList; // 키워드 전체 (랜덤 추출은 요청마다 controller 에서)
     }
 
     public LinkedList<LoanItemSrchResponseDto> loanItemSrch(JSONObject jsonResponse) {
@@ -182,7 +185,7 @@ public class ResponseParser {
             String duplicateCheckKey = doc.getAsString("bookname") + doc.getAsString("authors");
 
             if (duplicateCheckSet.add(duplicateCheckKey)) { // 중복 확인
-                responseList.add(LoanItemSrchResponseDto.builder()
+                responseList.add(bookRecordPool.intern(LoanItemSrchResponseDto.builder()
                         .no(doc.getAsString("no"))
                         .ranking(doc.getAsString("ranking"))
                         .bookname(doc.getAsString("bookname"))
@@ -196,7 +199,7 @@ public class ResponseParser {
                         .loan_count(doc.getAsString("loan_count"))
                         .bookImageURL(doc.getAsString("bookImageURL"))
                         .bookDtlUrl(doc.getAsString("bookDtlUrl"))
-                        .build());
+                        .build()));
             }
         }
         return responseList;
@@ -395,20 +398,17 @@ public class ResponseParser {
         return responseList;
     }
 
-    public <T extends OpenAPIResponseInterface> LinkedList<T> customPageFilter(LinkedList<T> responseList, String filteredPageNo, String filteredPageSize) {
+    public <T extends OpenAPIResponseInterface> LinkedList<T> customPageFilter(List<T> responseList, String filteredPageNo, String filteredPageSize) {
         log.trace("ResponseParser > customPageFilter()");
 
         int pageNo = Integer.parseInt(filteredPageNo);
         int pageSize = Integer.parseInt(filteredPageSize);
 
-        int startIdx = (pageNo - 1) * pageSize;
-        int endIdx = Math.min(startIdx + pageSize, responseList.size());
-
-        try {
-            return new LinkedList<>(responseList.subList(startIdx, endIdx));
-        } catch (IllegalArgumentException e) {
+        long startIdx = (pageNo - 1L) * pageSize;
+        if (startIdx < 0 || pageSize <= 0 || startIdx >= responseList.size()) { // 범위를 벗어난 페이지
             return new LinkedList<>();
         }
-
+        int endIdx = (int) Math.min(startIdx + pageSize, responseList.size());
+        return new LinkedList<>(responseList.subList((int) startIdx, endIdx));
     }
 }
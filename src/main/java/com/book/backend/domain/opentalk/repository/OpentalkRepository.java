@@ -3,12 +3,19 @@ package com.book.backend.domain.opentalk.repository;
 import com.book.backend.domain.book.entity.Book;
 import com.book.backend.domain.opentalk.entity.Opentalk;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface OpentalkRepository extends JpaRepository<Opentalk, Long> {
     Optional<Opentalk> findByOpentalkId(Long opentalkId);
     Opentalk findByBook(Book book);
+
+    // 오픈톡 목록과 책 정보를 한 번의 쿼리로 조회
+    @Query("SELECT o FROM Opentalk o JOIN FETCH o.book WHERE o.opentalkId IN :opentalkIds")
+    List<Opentalk> findAllWithBookByOpentalkIdIn(Collection<Long> opentalkIds);
 }
@@ -0,0 +1,18 @@
+package com.book.backend.domain.opentalk.service;
+
+import com.book.backend.domain.book.entity.Book;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+// book 행이 수정, 삭제되면 그 책의 오픈톡 카드를 캐시에서 제외 (Hibernate 가 생성, OpentalkCardCache 는 Spring bean 을 주입받음)
+@RequiredArgsConstructor
+public class BookChangeListener {
+    private final OpentalkCardCache opentalkCardCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onBookChanged(Book book) {
+        opentalkCardCache.evictByIsbn(book.getIsbn());
+    }
+}
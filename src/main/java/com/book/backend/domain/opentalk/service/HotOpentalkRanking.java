@@ -0,0 +1,85 @@
+package com.book.backend.domain.opentalk.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/*
+    핫 오픈톡 순위 (Redis sorted set, 모든 서버가 공유)
+    메시지를 저장할 때 현재 시간 bucket(bucketMinutes 단위) 의 opentalkId 점수를 1 올림
+    조회 시 최근 windowMinutes 의 bucket 을 합산, 오래된 bucket 일수록 halfLifeMinutes 마다 가중치를 절반으로 줄임
+    bucket 은 window 가 지나면 만료되므로 순위는 최근 활동만 반영
+*/
+@Component
+@Slf4j
+public class HotOpentalkRanking {
+    private static final String KEY_PREFIX = "opentalk:hot:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final double halfLifeBuckets;
+
+    public HotOpentalkRanking(RedisTemplate<String, String> redisTemplate,
+                              @Value("${opentalk.hot.windowMinutes}") long windowMinutes,
+                              @Value("${opentalk.hot.bucketMinutes}") long bucketMinutes,
+                              @Value("${opentalk.hot.halfLifeMinutes}") long halfLifeMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.bucketMillis = Duration.ofMinutes(bucketMinutes).toMillis();
+        this.bucketCount = (int) Math.max(windowMinutes / bucketMinutes, 1);
+        this.halfLifeBuckets = (double) halfLifeMinutes / bucketMinutes;
+    }
+
+    // 메시지 1건 기록 (Redis 장애 시에도 메시지 저장은 계속되도록 예외를 던지지 않음)
+    public void record(Long opentalkId) {
+        String key = bucketKey(currentBucket());
+        try {
+            redisTemplate.opsForZSet().incrementScore(key, String.valueOf(opentalkId), 1);
+            redisTemplate.expire(key, Duration.ofMillis(bucketMillis * (bucketCount + 1)));
+        } catch (Exception e) {
+            log.warn("핫 오픈톡 순위에 메시지를 기록하지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    // 최근 window 동안 감쇠 가중치를 적용한 활동량 상위 limit 개 opentalkId
+    public List<Long> top(int limit) {
+        long current = currentBucket();
+        List<String> keys = new ArrayList<>(bucketCount);
+        double[] weights = new double[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            keys.add(bucketKey(current - i));
+            weights[i] = Math.pow(0.5, i / halfLifeBuckets);
+        }
+
+        // 결과를 저장하지 않는 ZUNION 으로 합산 (조회마다 Redis 에 쓰지 않음), 상위 limit 개는 서버에서 선택
+        Set<TypedTuple<String>> scores = redisTemplate.opsForZSet().unionWithScores(keys.get(0), keys.subList(1, keys.size()),
+                Aggregate.SUM, Weights.of(weights));
+        if (scores == null) {
+            return List.of();
+        }
+        return scores.stream()
+                .filter(tuple -> tuple.getValue() != null && tuple.getScore() != null)
+                .sorted(Comparator.comparingDouble((TypedTuple<String> tuple) -> tuple.getScore()).reversed())
+                .limit(limit)
+                .map(tuple -> Long.valueOf(tuple.getValue()))
+                .toList();
+    }
+
+    private long currentBucket() {
+        return System.currentTimeMillis() / bucketMillis;
+    }
+
+    private static String bucketKey(long bucket) {
+        return KEY_PREFIX + bucket;
+    }
+}
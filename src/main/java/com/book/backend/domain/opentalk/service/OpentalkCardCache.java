@@ -0,0 +1,51 @@
+package com.book.backend.domain.opentalk.service;
+
+import com.book.backend.domain.opentalk.dto.OpentalkDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/*
+    오픈톡 카드 (책 ISBN, 제목, 표지) 캐시 (key : opentalkId, 서버 메모리)
+    핫 오픈톡, 즐겨찾기 목록은 매번 같은 오픈톡을 조회하므로 캐시에 없는 id 만 한 번에 조회
+    book 행이 바뀌면 BookChangeListener 가 해당 ISBN 의 카드를 제외 (다른 서버에서 바뀐 경우는 ttl 이 지나면 반영)
+*/
+@Component
+@Slf4j
+public class OpentalkCardCache {
+    private final Cache<Long, OpentalkDto> cards;
+
+    public OpentalkCardCache(@Value("${opentalk.card.maxSize}") long maxSize,
+                             @Value("${opentalk.card.ttlMinutes}") long ttlMinutes) {
+        this.cards = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    // 캐시에 없는 id 는 loader 로 한 번에 조회 (loader 결과에 없는 id 는 반환하지 않음)
+    public Map<Long, OpentalkDto> getAll(Collection<Long> opentalkIds,
+                                         Function<Set<? extends Long>, Map<Long, OpentalkDto>> loader) {
+        log.trace("OpentalkCardCache > getAll()");
+        return cards.getAll(opentalkIds, loader);
+    }
+
+    public void evictByIsbn(String isbn) {
+        cards.asMap().values().removeIf(card -> card.getIsbn13() != null && card.getIsbn13().equals(isbn));
+    }
+
+    // 여러 책을 한 번에 제외 (카드 전체를 한 번만 훑음)
+    public void evictByIsbns(Collection<String> isbns) {
+        Set<String> targets = new HashSet<>(isbns);
+        cards.asMap().values().removeIf(card -> card.getIsbn13() != null && targets.contains(card.getIsbn13()));
+    }
+}
@@ -2,6 +2,7 @@ package com.book.backend.domain.opentalk.service;
 
 import com.book.backend.domain.book.entity.Book;
 import com.book.backend.domain.book.repository.BookRepository;
+import com.book.backend.domain.book.service.BookCatalogService;
 import com.book.backend.domain.message.dto.MessageResponseDto;
 import com.book.backend.domain.detail.service.DetailService;
 import com.book.backend.domain.message.entity.Message;
@@ -37,28 +38,43 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 @Slf4j
 public class OpentalkService {
+    private static final int HOT_OPENTALK_SIZE = 5;
+
     private final UserOpentalkRepository userOpentalkRepository;
     private final MessageRepository messageRepository;
     private final OpentalkRepository opentalkRepository;
     private final BookRepository bookRepository;
+    private final BookCatalogService bookCatalogService;
     private final DetailService detailService;
     private final UserService userService;
     private final OpentalkResponseParser opentalkResponseParser;
     private final MessageService messageService;
+    private final HotOpentalkRanking hotOpentalkRanking;
+    private final OpentalkCardCache opentalkCardCache;
 
-    /* message 테이블에서 최근 200개 데이터 조회 -> opentalkId 기준으로 count 해서 가장 빈번하게 나오는 top 5 id 반환*/
+    // 최근 활동량 (opentalk.hot.windowMinutes 동안의 메시지 수, 최근일수록 가중치 높음) top 5 id 반환
     public List<Long> getHotOpentalkIds() {
         log.trace("OpentalkService > hotOpentalk()");
-        List<Message> recent200Messages = messageRepository.findTop50ByOrderByCreatedAtDesc();
+        try {
+            return hotOpentalkRanking.top(HOT_OPENTALK_SIZE);
+        } catch (Exception e) { // Redis 장애 시 최근 메시지로 계산
+            log.warn("핫 오픈톡 순위를 조회하지 못해 최근 메시지로 계산합니다: " + e.getMessage());
+            return getRecentHotOpentalkIds();
+        }
+    }
+
+    /* message 테이블에서 최근 50개 데이터 조회 -> opentalkId 기준으로 count 해서 가장 빈번하게 나오는 top 5 id 반환*/
+    private List<Long> getRecentHotOpentalkIds() {
+        List<Message> recent50Messages = messageRepository.findTop50ByOrderByCreatedAtDesc();
 
         // (key : opentalk_id, value : 출현빈도)
-        Map<Long, Long> opentalkIdCountMap = recent200Messages.stream().collect(
+        Map<Long, Long> opentalkIdCountMap = recent50Messages.stream().collect(
                 Collectors.groupingBy(message -> message.getOpentalk().getOpentalkId(), Collectors.counting())
         );
         // value 순으로 정렬해서 top 5 id 반환
         return opentalkIdCountMap.entrySet().stream()
                 .sorted(Map.Entry.comparingByValue(Comparator.reverseOrder()))
-                .limit(5)
+                .limit(HOT_OPENTALK_SIZE)
                 .map(Map.Entry::getKey)
                 .toList();
     }
@@ -123,19 +139,31 @@ public class OpentalkService {
         log.trace("OpentalkService > getBookInfo()");
         List<OpentalkDto> opentalkDtoList = new LinkedList<>();
 
+        // 캐시에 없는 오픈톡만 책 정보와 함께 한 번에 조회 (key : opentalkId)
+        Map<Long, OpentalkDto> cards = opentalkCardCache.getAll(opentalkId, this::loadCards);
+
         for(Long id : opentalkId) {
-            // bookrepository 에서 opentalkid 로 찾기
-            Optional<Opentalk> opentalk = opentalkRepository.findByOpentalkId(id);
-            Book book = opentalk.get().getBook();
-            OpentalkDto opentalkDto = OpentalkDto.builder()
-                    .id(id)
+            OpentalkDto opentalkDto = cards.get(id);
+            if (opentalkDto == null) {
+                throw new CustomException(ErrorCode.OPENTALK_NOT_FOUND);
+            }
+            opentalkDtoList.add(opentalkDto);
+        }
+        return opentalkDtoList;
+    }
+
+    private Map<Long, OpentalkDto> loadCards(Set<? extends Long> opentalkIds) {
+        Map<Long, OpentalkDto> cards = new HashMap<>();
+        for (Opentalk opentalk : opentalkRepository.findAllWithBookByOpentalkIdIn(new ArrayList<>(opentalkIds))) {
+            Book book = opentalk.getBook();
+            cards.put(opentalk.getOpentalkId(), OpentalkDto.builder()
+                    .id(opentalk.getOpentalkId())
                     .isbn13(book.getIsbn())
                     .bookName(book.getBookname())
                     .bookImageURL(book.getBookImageURL())
-                    .build();
-            opentalkDtoList.add(opentalkDto);
+                    .build());
         }
-        return opentalkDtoList;
+        return cards;
     }
 
 
@@ -168,11 +196,9 @@ public class OpentalkService {
     @Transactional
     public Opentalk createOpentalkByIsbn(String isbn, String bookname, String bookImageURL) {
         log.trace("OpentalkService > createOpentalkByIsbn");
-        Book book = new Book();
-        book.setIsbn(isbn);
-        book.setBookname(bookname);
-        book.setBookImageURL(bookImageURL);
-        bookRepository.save(book);
+        // 카탈로그에 이미 있는 책이면 그 행을 사용 (카탈로그 writer 와 동시에 저장해도 isbn unique 라 행이 하나만 생김)
+        bookCatalogService.save(isbn, bookname, null, bookImageURL);
+        Book book = bookRepository.findByIsbn(isbn);
 
         Opentalk opentalk = new Opentalk();
         opentalk.setBook(book);
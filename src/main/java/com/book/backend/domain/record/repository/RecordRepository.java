@@ -5,10 +5,12 @@ import com.book.backend.domain.record.entity.Record;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface RecordRepository extends JpaRepository<Record, Long> {
     List<Record> findAllByGoal(Goal goal);
+    List<Record> findAllByGoalIn(Collection<Goal> goals); // 여러 목표의 기록을 한 번에 조회
     Record findByGoalAndDate(Goal goal, LocalDateTime date);
     void deleteAllByGoal(Goal goal);
 }
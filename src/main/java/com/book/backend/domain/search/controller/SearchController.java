@@ -23,7 +23,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.util.UriUtils;
 
 
 @RestController
@@ -53,7 +52,7 @@ public class SearchController {
 
         RequestDto requestDto = RequestDto.builder()
                 .isKeyword(isKeyword)
-                .input(UriUtils.encode("\"" + input + "\"", "UTF-8")) // 공백 및 한글 인코딩
+                .input("\"" + input + "\"") // 공백 및 한글 인코딩은 OpenAPIQueryEncoder 에서 처리
                 .pageNo(pageNo)
                 .pageSize(pageSize)
                 .build();
@@ -3,10 +3,14 @@ package com.book.backend.domain.search.service;
 import com.book.backend.domain.openapi.dto.request.SearchRequestDto;
 import com.book.backend.domain.openapi.dto.response.SearchResponseDto;
 import com.book.backend.domain.openapi.service.OpenAPI;
+import com.book.backend.domain.openapi.service.OpenAPIStreamParser;
 import com.book.backend.domain.openapi.service.ResponseParser;
 import com.book.backend.domain.search.dto.RequestDto;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import com.book.backend.exception.CustomException;
 import com.book.backend.exception.ErrorCode;
@@ -24,32 +28,41 @@ import com.book.backend.domain.user.service.UserService;
 @Slf4j
 public class SearchService {
     private final OpenAPI openAPI;
+    private final ResponseParser responseParser;
     private final UserService userService;
+    private final OpenAPIStreamParser streamParser;
 
     public LinkedList<SearchResponseDto> search(RequestDto requestDto) throws Exception {
         log.trace("SearchService > search()");
         String subUrl = "srchBooks";
 
-        ResponseParser responseParser = new ResponseParser();
         if(!requestDto.isKeyword()){
-            LinkedList<SearchResponseDto> responseList = new LinkedList<>();
-            SearchRequestDto searchRequestDto = SearchRequestDto.builder()
+            // 제목 검색, 작가 검색을 각각의 request 로 동시에 요청
+            SearchRequestDto titleRequestDto = SearchRequestDto.builder()
+                    .title(requestDto.getInput())
+                    .pageNo(requestDto.getPageNo().toString())
+                    .pageSize(requestDto.getPageSize().toString())
+                    .build();
+            SearchRequestDto authorRequestDto = SearchRequestDto.builder()
+                    .author(requestDto.getInput())
                     .pageNo(requestDto.getPageNo().toString())
                     .pageSize(requestDto.getPageSize().toString())
                     .build();
 
-            // 제목으로 검색
-            searchRequestDto.setTitle(requestDto.getInput());
-            JSONObject jsonResponse = openAPI.connect(subUrl, searchRequestDto, new SearchResponseDto(), 1);
-            responseList.addAll(responseParser.search(jsonResponse));
-
-            // 작가로 검색
-            searchRequestDto.setTitle(null);
-            searchRequestDto.setAuthor(requestDto.getInput());
-            jsonResponse = openAPI.connect(subUrl, searchRequestDto, new SearchResponseDto(), 1);
-            responseList.addAll(responseParser.search(jsonResponse));
+            CompletableFuture<LinkedList<SearchResponseDto>> titleFuture = searchAsync(subUrl, titleRequestDto);
+            CompletableFuture<LinkedList<SearchResponseDto>> authorFuture = searchAsync(subUrl, authorRequestDto);
+            LinkedList<SearchResponseDto> titleResults;
+            LinkedList<SearchResponseDto> authorResults;
+            try {
+                titleResults = titleFuture.join();
+                authorResults = authorFuture.join();
+            } catch (CompletionException e) {
+                titleFuture.cancel(true);
+                authorFuture.cancel(true);
+                throw (e.getCause() instanceof Exception exception) ? exception : e;
+            }
 
-            return duplicateChecker(responseList);
+            return duplicateChecker(rank(requestDto.getInput(), titleResults, authorResults));
         } else { // 키워드로 검색
             SearchRequestDto searchRequestDto = SearchRequestDto.builder()
                     .pageNo(requestDto.getPageNo().toString())
@@ -62,12 +75,46 @@ public class SearchService {
         }
     }
 
+    private CompletableFuture<LinkedList<SearchResponseDto>> searchAsync(String subUrl, SearchRequestDto searchRequestDto) {
+        return openAPI.connectRawAsync(subUrl, searchRequestDto, 1, null)
+                .thenApply(body -> streamParser.docs(body, SearchResponseDto.class, doc -> true, 0, Integer.MAX_VALUE));
+    }
+
+    /*
+        제목 검색 결과 + 작가 검색 결과 정렬
+        1. 제목이 검색어와 정확히 일치 2. 작가가 검색어를 포함 3. 대출 횟수 많은 순 (같으면 제목 검색 결과, 원래 순서 유지)
+    */
+    private LinkedList<SearchResponseDto> rank(String input, LinkedList<SearchResponseDto> titleResults, LinkedList<SearchResponseDto> authorResults) {
+        String keyword = normalize(input.replace("\"", ""));
+
+        LinkedList<SearchResponseDto> merged = new LinkedList<>(titleResults);
+        merged.addAll(authorResults);
+        merged.sort(Comparator
+                .comparing((SearchResponseDto dto) -> !normalize(dto.getBookname()).equals(keyword))
+                .thenComparing(dto -> !normalize(dto.getAuthors()).contains(keyword))
+                .thenComparing(Comparator.comparingLong((SearchResponseDto dto) -> loanCount(dto)).reversed()));
+        return merged;
+    }
+
+    private String normalize(String value) {
+        return value == null ? "" : value.replaceAll("\\s+", "").toLowerCase();
+    }
+
+    private long loanCount(SearchResponseDto dto) {
+        try {
+            return Long.parseLong(dto.getLoan_count());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    // ISBN 기준 중복 제거 (ISBN 이 없으면 책이름 + 작가), 최대 10개
     public LinkedList<SearchResponseDto> duplicateChecker(LinkedList<SearchResponseDto> list){
         log.trace("searchService > duplicateChecker()");
         LinkedList<SearchResponseDto> duplicateRemovedList = new LinkedList<>();
         HashSet<String> set = new HashSet<>();
         for(SearchResponseDto dto : list){
-            String key = dto.getBookname() + dto.getAuthors();
+            String key = (dto.getIsbn13() != null && !dto.getIsbn13().isBlank()) ? dto.getIsbn13() : dto.getBookname() + dto.getAuthors();
             if(set.add(key)) duplicateRemovedList.add(dto);
         }
         if(duplicateRemovedList.size() > 10) return new LinkedList<>(duplicateRemovedList.subList(0, 10));
@@ -0,0 +1,40 @@
+package com.book.backend.domain.trend.dto;
+
+import com.book.backend.exception.CustomException;
+import com.book.backend.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 다음 페이지 요청에 사용하는 cursor (스냅샷 id + 스냅샷 버전(만든 시각) + 시작 위치), 클라이언트에는 base64url 문자열로 전달
+@Getter
+@RequiredArgsConstructor
+public class TrendCursor {
+    private static final String SEPARATOR = "\n";
+
+    private final String snapshotId;
+    private final long createdAt;
+    private final int offset;
+
+    public String encode() {
+        String value = snapshotId + SEPARATOR + createdAt + SEPARATOR + offset;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TrendCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int first = value.indexOf(SEPARATOR);
+            int second = value.indexOf(SEPARATOR, first + 1);
+            int offset = Integer.parseInt(value.substring(second + 1));
+            if (first < 0 || second < 0 || offset < 0) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new TrendCursor(value.substring(0, first), Long.parseLong(value.substring(first + 1, second)), offset);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.book.backend.domain.trend.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedList;
+
+// 스냅샷에서 자른 한 페이지 (nextCursor 가 null 이면 마지막 페이지)
+@Getter
+@RequiredArgsConstructor
+public class TrendPage<T> {
+    private final LinkedList<T> items;
+    private final String nextCursor;
+    private final long snapshotAge;
+    private final String eTag; // 페이지를 자른 스냅샷 버전 + 페이지 범위
+}
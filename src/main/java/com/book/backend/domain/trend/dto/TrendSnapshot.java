@@ -0,0 +1,52 @@
+package com.book.backend.domain.trend.dto;
+
+import com.book.backend.domain.openapi.service.RandomPicker;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedList;
+import java.util.List;
+
+// 미리 계산해둔 트렌드 결과 (여러 요청이 같은 인스턴스를 공유하므로 items 는 수정하지 않고 복사해서 사용)
+@Getter
+@RequiredArgsConstructor
+public class TrendSnapshot<T> {
+    private final String id;
+    private final List<T> items; // 배열 기반 불변 리스트 (페이지 조회 시 인덱스로 바로 접근)
+    private final long createdAt; // 스냅샷을 만든 시각 (epoch millis), 스냅샷 버전으로도 사용
+
+    public long getAgeSeconds() {
+        return Math.max(System.currentTimeMillis() - createdAt, 0) / 1000;
+    }
+
+    // 스냅샷 버전 (id + 만든 시각), 버전이 같으면 같은 목록 (응답의 snapshotAge 만 다르므로 weak ETag)
+    public String getETag() {
+        return "W/\"" + version() + "\"";
+    }
+
+    // 페이지 ETag (버전 + offset, pageSize), 같은 버전이라도 페이지마다 목록이 다름
+    public String getPageETag(long offset, int pageSize) {
+        return "W/\"" + version() + "-" + offset + "-" + pageSize + "\"";
+    }
+
+    // offset 부터 pageSize 개, 뒤에 남은 항목이 있으면 같은 버전을 가리키는 다음 페이지 cursor 를 함께 반환
+    public TrendPage<T> page(long offset, int pageSize) {
+        if (offset < 0 || pageSize <= 0 || offset >= items.size()) {
+            return new TrendPage<>(new LinkedList<>(), null, getAgeSeconds(), getPageETag(offset, pageSize));
+        }
+        int startIdx = (int) offset;
+        int endIdx = (int) Math.min(offset + pageSize, items.size());
+        String nextCursor = (endIdx < items.size()) ? new TrendCursor(id, createdAt, endIdx).encode() : null;
+        return new TrendPage<>(new LinkedList<>(items.subList(startIdx, endIdx)), nextCursor, getAgeSeconds(),
+                getPageETag(offset, pageSize));
+    }
+
+    private String version() {
+        return Integer.toHexString(id.hashCode()) + "-" + Long.toHexString(createdAt);
+    }
+
+    // 무작위로 size 개 추출
+    public LinkedList<T> sample(Integer size) {
+        return RandomPicker.randomPick(new LinkedList<>(items), size);
+    }
+}
@@ -0,0 +1,32 @@
+package com.book.backend.domain.trend.entity;
+
+import com.book.backend.domain.openapi.dto.response.HotTrendResponseDto;
+import com.book.backend.domain.openapi.dto.response.LoanItemSrchResponseDto;
+import com.book.backend.domain.openapi.dto.response.MonthlyKeywordsResponseDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TrendSnapshotType {
+    HOT_TREND("hotTrend", HotTrendResponseDto.class),
+    KEYWORDS("keyword", MonthlyKeywordsResponseDto.class),
+    CUSTOM_HOT_TREND("customHotTrend", LoanItemSrchResponseDto.class),
+    A_WEEK_TREND("aWeekTrend", LoanItemSrchResponseDto.class),
+    A_MONTH_TREND("aMonthTrend", LoanItemSrchResponseDto.class),
+    THIS_WEEK_TREND("thisWeekTrend", LoanItemSrchResponseDto.class),
+    NEW_TREND("newTrend", LoanItemSrchResponseDto.class),
+    RANDOM("random", LoanItemSrchResponseDto.class);
+
+    public final String key; // Redis key 에 쓰는 이름
+    public final Class<?> elementType; // 스냅샷 리스트 원소 타입
+
+    public static TrendSnapshotType of(String key) {
+        for (TrendSnapshotType type : values()) {
+            if (type.getKey().equals(key)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("등록되지 않은 트렌드 스냅샷입니다: " + key);
+    }
+}
@@ -0,0 +1,56 @@
+package com.book.backend.domain.trend.service;
+
+import com.book.backend.domain.trend.entity.TrendSnapshotType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/*
+    트렌드 스냅샷 갱신 스케줄러
+    refreshIntervalMillis 마다 (모든 서버 합쳐서) 스냅샷 하나만 갱신해서, OpenAPI 호출이 하루에 걸쳐 고르게 나뉘도록 함
+    ex) 10분 간격이면 하루 최대 144회 호출
+*/
+@Component
+@Slf4j
+public class TrendSnapshotScheduler {
+    private static final String LOCK_KEY = "trend:snapshot:lock";
+
+    private final TrendSnapshotService trendSnapshotService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration refreshInterval;
+
+    public TrendSnapshotScheduler(TrendSnapshotService trendSnapshotService, RedisTemplate<String, String> redisTemplate,
+                                  @Value("${trend.snapshot.refreshIntervalMillis}") long refreshIntervalMillis) {
+        this.trendSnapshotService = trendSnapshotService;
+        this.redisTemplate = redisTemplate;
+        this.refreshInterval = Duration.ofMillis(refreshIntervalMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerDefaultSnapshots() {
+        trendSnapshotService.register(TrendSnapshotType.HOT_TREND);
+        trendSnapshotService.register(TrendSnapshotType.KEYWORDS);
+    }
+
+    @Scheduled(fixedDelayString = "${trend.snapshot.refreshIntervalMillis}", initialDelayString = "${trend.snapshot.refreshIntervalMillis}")
+    public void refresh() {
+        try {
+            // 다른 서버가 이번 주기에 이미 갱신했으면 건너뜀 (lock 은 만료될 때까지 유지해서 주기당 한 번만 갱신)
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", refreshInterval);
+            if (!Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+            if (!trendSnapshotService.refreshStalest()) {
+                redisTemplate.delete(LOCK_KEY); // 갱신할 스냅샷이 없었으면 다음 주기를 기다리지 않아도 됨
+            }
+        } catch (Exception e) {
+            log.warn("트렌드 스냅샷 갱신 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+}
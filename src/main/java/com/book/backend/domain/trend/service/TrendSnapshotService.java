@@ -0,0 +1,352 @@
+package com.book.backend.domain.trend.service;
+
+import com.book.backend.domain.book.service.BookService;
+import com.book.backend.domain.genre.repository.GenreRepository;
+import com.book.backend.domain.genre.service.GenreService;
+import com.book.backend.domain.openapi.dto.request.HotTrendRequestDto;
+import com.book.backend.domain.openapi.dto.request.LoanItemSrchRequestDto;
+import com.book.backend.domain.openapi.dto.request.MonthlyKeywordsRequestDto;
+import com.book.backend.domain.openapi.service.BookRecordPool;
+import com.book.backend.domain.openapi.service.RequestValidate;
+import com.book.backend.domain.trend.dto.TrendCursor;
+import com.book.backend.domain.trend.dto.TrendPage;
+import com.book.backend.domain.trend.dto.TrendSnapshot;
+import com.book.backend.domain.trend.entity.TrendSnapshotType;
+import com.book.backend.exception.CustomException;
+import com.book.backend.exception.ErrorCode;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/*
+    트렌드 화면(대출 급상승, 키워드, 조건형 인기 대출, 장르별 인기순) 결과를 미리 계산해서 Redis 에 저장해두고 요청은 저장된 스냅샷으로 응답
+    - 처음 보는 파라미터 조합은 요청 시점에 계산해서 저장하고, 이후에는 TrendSnapshotScheduler 가 하루에 걸쳐 나눠서 갱신
+    - 장르 코드가 genre 테이블에 없거나, 또래 나이/도서관 코드처럼 조합 수가 많은 파라미터가 포함된 요청은 갱신 대상으로 등록하지 않음
+    - refreshed (ZSET) : 갱신 대상 스냅샷 id -> 만든 시각, requested (ZSET) : 스냅샷 id -> 마지막 요청 시각
+    - pinned (SET) : 요청이 없어도 삭제하지 않는 스냅샷 id (대출 급상승, 키워드)
+    - 스냅샷은 버전(만든 시각)별 key 에 저장하고 id key 는 현재 버전을 가리킴, 이전 버전은 cursorRetention 동안 남겨서
+      cursor 로 이어서 보는 페이지는 중간에 스냅샷이 갱신되어도 같은 순위 목록에서 잘림
+*/
+@Service
+@Slf4j
+public class TrendSnapshotService {
+    private static final String KEY_PREFIX = "trend:snapshot:";
+    private static final String REFRESHED_KEY = "trend:snapshot:refreshed";
+    private static final String REQUESTED_KEY = "trend:snapshot:requested";
+    private static final String PINNED_KEY = "trend:snapshot:pinned";
+    private static final String SEPARATOR = "\n";
+    private static final String ALL = String.valueOf(Integer.MAX_VALUE); // 페이지를 나누지 않고 전체 결과 저장
+    private static final Set<String> REFRESHABLE_PARAMS = Set.of("weekMonth", "ageRange", "gender", "genreCode", "region");
+    private static final Duration RETRY_DELAY = Duration.ofHours(1); // 갱신에 실패한 스냅샷을 다시 시도하기까지의 시간
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final BookService bookService;
+    private final GenreService genreService;
+    private final GenreRepository genreRepository;
+    private final RequestValidate requestValidate;
+    private final BookRecordPool bookRecordPool;
+    private final Duration refreshAfter;
+    private final Duration unusedRetention;
+    private final Duration cursorRetention;
+    private final Cache<String, TrendSnapshot<?>> localCache;
+
+    public TrendSnapshotService(RedisTemplate<String, String> redisTemplate, BookService bookService,
+                                GenreService genreService, GenreRepository genreRepository, RequestValidate requestValidate,
+                                BookRecordPool bookRecordPool,
+                                @Value("${trend.snapshot.refreshAfterHours}") long refreshAfterHours,
+                                @Value("${trend.snapshot.unusedRetentionDays}") long unusedRetentionDays,
+                                @Value("${trend.snapshot.localCacheSeconds}") long localCacheSeconds,
+                                @Value("${trend.snapshot.cursorRetentionMinutes}") long cursorRetentionMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.bookService = bookService;
+        this.genreService = genreService;
+        this.genreRepository = genreRepository;
+        this.requestValidate = requestValidate;
+        this.bookRecordPool = bookRecordPool;
+        this.refreshAfter = Duration.ofHours(refreshAfterHours);
+        this.unusedRetention = Duration.ofDays(unusedRetentionDays);
+        this.cursorRetention = Duration.ofMinutes(cursorRetentionMinutes);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(Duration.ofSeconds(localCacheSeconds))
+                .build();
+    }
+
+    // 요청 파라미터 (null 인 값은 제외, key 순서로 정렬해서 같은 조합은 같은 스냅샷을 사용)
+    public static Map<String, String> params(String[] keys, String... values) {
+        Map<String, String> params = new TreeMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) {
+                params.put(keys[i], values[i]);
+            }
+        }
+        return params;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> TrendSnapshot<T> get(TrendSnapshotType type, Map<String, String> params) throws Exception {
+        log.trace("TrendSnapshotService > get()");
+        String id = snapshotId(type, params);
+
+        TrendSnapshot<?> snapshot = localCache.getIfPresent(id);
+        if (snapshot == null) {
+            snapshot = getFromRedis(type, id);
+            if (snapshot == null) { // 처음 보는 조합이면 바로 계산
+                return (TrendSnapshot<T>) refresh(type, params);
+            }
+            localCache.put(id, snapshot);
+            markRequested(id); // 서버마다 localCache 가 만료될 때만 기록
+        }
+        return (TrendSnapshot<T>) snapshot;
+    }
+
+    // cursor 가 있으면 cursor 를 만든 스냅샷 버전에서 이어서, 없으면 현재 스냅샷의 pageNo 페이지 (pageNo 기본값 1)
+    public <T> TrendPage<T> page(TrendSnapshotType type, Map<String, String> params, String cursor,
+                                 String pageNo, String pageSize) throws Exception {
+        log.trace("TrendSnapshotService > page()");
+        int size = Integer.parseInt(pageSize);
+        if (cursor == null) {
+            long offset = (Integer.parseInt(pageNo != null ? pageNo : "1") - 1L) * size;
+            return this.<T>get(type, params).page(offset, size);
+        }
+
+        TrendCursor trendCursor = TrendCursor.decode(cursor);
+        String id = snapshotId(type, params);
+        if (!trendCursor.getSnapshotId().equals(id)) { // 다른 장르, 다른 화면의 cursor
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+        TrendSnapshot<T> snapshot = getVersion(type, id, trendCursor.getCreatedAt());
+        if (snapshot == null) { // cursor 를 만든 버전이 만료됐으면 현재 스냅샷에서 이어서
+            log.debug("cursor 의 트렌드 스냅샷 버전이 만료되어 현재 스냅샷으로 응답합니다. (" + id + ")");
+            snapshot = get(type, params);
+        }
+        return snapshot.page(trendCursor.getOffset(), size);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> TrendSnapshot<T> getVersion(TrendSnapshotType type, String id, long createdAt) {
+        TrendSnapshot<?> current = localCache.getIfPresent(id);
+        if (current != null && current.getCreatedAt() == createdAt) {
+            return (TrendSnapshot<T>) current;
+        }
+        String versionKey = versionKey(id, String.valueOf(createdAt));
+        TrendSnapshot<?> snapshot = localCache.getIfPresent(versionKey);
+        if (snapshot == null) {
+            snapshot = readSnapshot(type, id, versionKey);
+            if (snapshot == null) {
+                return null;
+            }
+            localCache.put(versionKey, snapshot);
+        }
+        return (TrendSnapshot<T>) snapshot;
+    }
+
+    // 파라미터가 없는 스냅샷(대출 급상승, 키워드)은 요청이 없어도 갱신 대상으로 등록
+    public void register(TrendSnapshotType type) {
+        String id = snapshotId(type, Map.of());
+        try {
+            redisTemplate.opsForZSet().addIfAbsent(REFRESHED_KEY, id, 0);
+            redisTemplate.opsForSet().add(PINNED_KEY, id); // 사용하지 않아도 삭제하지 않음 (requested 는 요청마다 덮어써지므로 따로 보관)
+        } catch (Exception e) {
+            log.warn("트렌드 스냅샷을 등록하지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    // 갱신 주기가 지난 스냅샷 중 가장 오래된 것 하나를 다시 계산 (갱신할 스냅샷이 없으면 false)
+    public boolean refreshStalest() {
+        log.trace("TrendSnapshotService > refreshStalest()");
+        removeUnused();
+
+        Set<TypedTuple<String>> stalest = redisTemplate.opsForZSet().rangeWithScores(REFRESHED_KEY, 0, 0);
+        if (stalest == null || stalest.isEmpty()) {
+            return false;
+        }
+        TypedTuple<String> tuple = stalest.iterator().next();
+        long now = System.currentTimeMillis();
+        if (tuple.getScore() != null && now - tuple.getScore() < refreshAfter.toMillis()) {
+            return false;
+        }
+
+        String id = tuple.getValue();
+        try {
+            int query = id.indexOf('?');
+            refresh(TrendSnapshotType.of(id.substring(0, query)), decodeParams(id.substring(query + 1)));
+        } catch (Exception e) { // 실패한 스냅샷 때문에 다른 스냅샷 갱신이 밀리지 않도록 RETRY_DELAY 뒤에 다시 시도
+            log.warn("트렌드 스냅샷을 갱신하지 못했습니다. (" + id + "): " + e.getMessage());
+            redisTemplate.opsForZSet().add(REFRESHED_KEY, id, now - refreshAfter.toMillis() + RETRY_DELAY.toMillis());
+        }
+        return true;
+    }
+
+    private TrendSnapshot<?> refresh(TrendSnapshotType type, Map<String, String> params) throws Exception {
+        log.trace("TrendSnapshotService > refresh()");
+        String id = snapshotId(type, params);
+        TrendSnapshot<?> snapshot = new TrendSnapshot<>(id, List.copyOf(load(type, params)), System.currentTimeMillis());
+        localCache.put(id, snapshot);
+
+        boolean refreshable = isRefreshable(type, params);
+        try {
+            String value = snapshot.getCreatedAt() + SEPARATOR + objectMapper.writeValueAsString(snapshot.getItems());
+            // 갱신 대상이 아니면 갱신 주기가 지나면 삭제
+            Duration ttl = refreshable ? refreshAfter.plus(unusedRetention) : refreshAfter;
+            String createdAt = String.valueOf(snapshot.getCreatedAt());
+            redisTemplate.opsForValue().set(KEY_PREFIX + versionKey(id, createdAt), value, ttl); // 새 버전을 먼저 저장한 뒤 가리키도록 변경
+            String previous = redisTemplate.opsForValue().get(KEY_PREFIX + id);
+            redisTemplate.opsForValue().set(KEY_PREFIX + id, createdAt, ttl);
+            if (previous != null && !previous.equals(createdAt)) { // 이전 버전은 cursor 로 이어서 보는 동안만 보관
+                redisTemplate.expire(KEY_PREFIX + versionKey(id, previous), cursorRetention);
+            }
+            if (refreshable) {
+                redisTemplate.opsForZSet().add(REFRESHED_KEY, id, snapshot.getCreatedAt());
+                redisTemplate.opsForZSet().addIfAbsent(REQUESTED_KEY, id, snapshot.getCreatedAt());
+            }
+        } catch (Exception e) { // Redis 장애 시에도 계산한 결과로 응답
+            log.warn("트렌드 스냅샷을 Redis 에 저장하지 못했습니다: " + e.getMessage());
+        }
+        return snapshot;
+    }
+
+    private List<?> load(TrendSnapshotType type, Map<String, String> params) throws Exception {
+        return switch (type) {
+            case HOT_TREND -> bookService.hotTrend(HotTrendRequestDto.builder()
+                    .searchDt(LocalDate.now().minusDays(1).toString())
+                    .build());
+            case KEYWORDS -> {
+                MonthlyKeywordsRequestDto requestDto = new MonthlyKeywordsRequestDto();
+                requestDto.setSearchDt();
+                yield bookService.keywords(requestDto);
+            }
+            case CUSTOM_HOT_TREND -> bookService.loanItemSrch(requestValidate.set_validLoanItemSrchRequest(
+                    params.get("weekMonth"), params.get("peerAge"), params.get("ageRange"), params.get("gender"),
+                    params.get("genreCode"), params.get("region"), params.get("libCode")));
+            case A_WEEK_TREND -> genreService.periodToNowTrend(genreRequest(params), 7, "1", ALL);
+            case A_MONTH_TREND -> genreService.periodToNowTrend(genreRequest(params), 30, "1", ALL);
+            case THIS_WEEK_TREND -> genreService.thisWeekTrend(genreRequest(params), "1", ALL);
+            case NEW_TREND -> genreService.newTrend(genreRequest(params), "1", ALL);
+            case RANDOM -> genreService.random(genreRequest(params), Integer.MAX_VALUE);
+        };
+    }
+
+    private LoanItemSrchRequestDto genreRequest(Map<String, String> params) {
+        String genreCode = params.get("genreCode");
+        requestValidate.isValidGenreCode(genreCode);
+        return LoanItemSrchRequestDto.builder()
+                .dtl_kdc(genreCode)
+                .build();
+    }
+
+    private boolean isRefreshable(TrendSnapshotType type, Map<String, String> params) {
+        if (!REFRESHABLE_PARAMS.containsAll(params.keySet())) {
+            return false;
+        }
+        String genreCode = params.get("genreCode");
+        return genreCode == null || genreRepository.findByParentGenreKdcNumAndKdcNum(
+                genreCode.substring(0, 1), genreCode.substring(1)).isPresent();
+    }
+
+    // 현재 버전의 스냅샷
+    private TrendSnapshot<?> getFromRedis(TrendSnapshotType type, String id) {
+        try {
+            String createdAt = redisTemplate.opsForValue().get(KEY_PREFIX + id);
+            return createdAt == null ? null : readSnapshot(type, id, versionKey(id, createdAt));
+        } catch (Exception e) {
+            log.warn("Redis 에서 트렌드 스냅샷을 조회하지 못했습니다: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Redis 에는 "만든 시각\n순위 목록 JSON" 형태로 저장
+    private TrendSnapshot<?> readSnapshot(TrendSnapshotType type, String id, String versionKey) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + versionKey);
+            if (value == null) {
+                return null;
+            }
+            int separator = value.indexOf(SEPARATOR);
+            List<?> items = objectMapper.readValue(value.substring(separator + 1),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, type.getElementType()));
+            items.forEach(bookRecordPool::intern); // 다른 스냅샷, 응답과 같은 책은 책 정보 문자열을 공유
+            return new TrendSnapshot<>(id, List.copyOf(items), Long.parseLong(value.substring(0, separator)));
+        } catch (Exception e) {
+            log.warn("Redis 에서 트렌드 스냅샷을 조회하지 못했습니다: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void markRequested(String id) {
+        try {
+            redisTemplate.opsForZSet().add(REQUESTED_KEY, id, System.currentTimeMillis());
+        } catch (Exception e) {
+            log.warn("트렌드 스냅샷 요청 시각을 기록하지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    // unusedRetention 동안 요청이 없던 스냅샷은 갱신 대상에서 제외 (pinned 스냅샷 제외)
+    private void removeUnused() {
+        long threshold = System.currentTimeMillis() - unusedRetention.toMillis();
+        Set<String> unused = redisTemplate.opsForZSet().rangeByScore(REQUESTED_KEY, Double.NEGATIVE_INFINITY, threshold);
+        if (unused == null || unused.isEmpty()) {
+            return;
+        }
+        Set<String> pinned = redisTemplate.opsForSet().members(PINNED_KEY);
+        List<String> removable = unused.stream()
+                .filter(id -> pinned == null || !pinned.contains(id))
+                .toList();
+        if (removable.isEmpty()) {
+            return;
+        }
+        for (String id : removable) {
+            redisTemplate.opsForZSet().remove(REFRESHED_KEY, id);
+            redisTemplate.opsForZSet().remove(REQUESTED_KEY, id);
+            String createdAt = redisTemplate.opsForValue().get(KEY_PREFIX + id);
+            if (createdAt != null) {
+                redisTemplate.delete(KEY_PREFIX + versionKey(id, createdAt));
+            }
+            redisTemplate.delete(KEY_PREFIX + id);
+        }
+        log.info("사용하지 않는 트렌드 스냅샷 " + removable.size() + "개를 삭제했습니다.");
+    }
+
+    // 스냅샷 id = "type?key1=value1&key2=value2"
+    private String snapshotId(TrendSnapshotType type, Map<String, String> params) {
+        StringJoiner query = new StringJoiner("&");
+        new TreeMap<>(params).forEach((key, value) ->
+                query.add(key + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        return type.getKey() + "?" + query;
+    }
+
+    private String versionKey(String id, String createdAt) {
+        return id + "@" + createdAt;
+    }
+
+    private Map<String, String> decodeParams(String query) {
+        Map<String, String> params = new TreeMap<>();
+        if (query.isEmpty()) {
+            return params;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            params.put(pair.substring(0, separator), URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+}
@@ -108,14 +108,21 @@ public class UserBookService {
     // 찜 여부 확인
     public boolean isDibs(String isbn) {
         log.trace("UserBookService > isDibs()");
-        User user = userService.loadLoggedinUser();
+        return isDibs(userService.loadLoggedinUser(), isbn);
+    }
+
+    // 이미 조회한 사용자로 찜 여부 확인 (사용자를 다시 조회하지 않음)
+    public boolean isDibs(User user, String isbn) {
         return user.getDibsBooks().stream().anyMatch(userBookDto -> userBookDto.getIsbn().equals(isbn));
     }
 
     // 읽은 책 여부 확인
     public boolean isFavorite(String isbn) {
         log.trace("UserBookService > isFavorite()");
-        User user = userService.loadLoggedinUser();
+        return isFavorite(userService.loadLoggedinUser(), isbn);
+    }
+
+    public boolean isFavorite(User user, String isbn) {
         return user.getReadBooks().stream().anyMatch(userBookDto -> userBookDto.getIsbn().equals(isbn));
     }
 }
@@ -23,6 +23,7 @@ public enum ErrorCode {
     INVALID_LIB_CODE(HttpStatus.BAD_REQUEST, "400", "올바르지 않은 도서관 코드입니다. (6자리 숫자로 입력해주세요)"),
     INVALID_PAGE_NUM(HttpStatus.BAD_REQUEST, "400", "페이지 번호는 1 이상의 숫자로 입력해주세요."),
     LIST_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "400", "요청 리스트의 크기가 초과되었습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "400", "올바르지 않은 cursor 입니다. 이전 응답의 nextCursor 를 그대로 입력해주세요."),
     ALREADY_EXIST(HttpStatus.CONFLICT, "409", "이미 추가된 값입니다"),
 
     // user
@@ -50,6 +51,7 @@ public enum ErrorCode {
     // opentalk, message
     OPENTALK_NOT_FOUND(HttpStatus.NOT_FOUND, "404", "해당하는 오픈톡을 찾을 수 없습니다.([오픈톡 참여하기]로 생성해주세요)"),
     MESSAGE_SAVE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "500", "메시지 저장에 실패했습니다."),
+    MESSAGE_TOO_LONG(HttpStatus.BAD_REQUEST, "400", "메시지는 255자 이하로 입력해주세요."),
     USER_OPENTALK_NOT_FOUND(HttpStatus.NOT_FOUND, "404", "해당 오픈톡은 유저의 즐겨찾기 리스트에 없습니다."),
     INVALID_MESSAGE_TYPE(HttpStatus.BAD_REQUEST, "400", "text, image, goal 중 하나를 입력해주세요."),
 
@@ -59,6 +61,8 @@ public enum ErrorCode {
     API_CALL_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "429", "OPEN API 일일 호출 횟수를 초과했습니다. (일 최대 500건)"),
     LIBCODE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "500", "존재하는 도서관 코드인지 확인해주세요."),
     OPENAPI_REQUEST_TIMEOUT(HttpStatus.REQUEST_TIMEOUT, "408", "OPEN API 응답을 요청하는 중 타임아웃이 발생했습니다."),
+    OPENAPI_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "503", "OPEN API 서버 장애로 요청을 잠시 중단했습니다. 잠시 후 다시 시도해주세요."),
+    OPENAPI_BULKHEAD_FULL(HttpStatus.SERVICE_UNAVAILABLE, "503", "OPEN API 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
 
     // OAuth2
     HEADER_PARSING_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "500", "Header 파싱 중 에러가 발생했습니다."),
@@ -0,0 +1,102 @@
+package com.book.backend.global;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/*
+    모든 사용자에게 같은 응답 (트렌드 스냅샷) 을 JSON bytes + gzip bytes 로 만들어두고 그대로 응답
+    요청마다 Jackson 직렬화, 압축을 하지 않음 (ByteArrayHttpMessageConverter 가 bytes 를 그대로 씀)
+    응답 envelope 의 snapshotAge 는 만들어둔 시점 값이므로 ttl 만큼 늦을 수 있음
+*/
+@Component
+@Slf4j
+public class PrecompressedResponseCache {
+    private final ObjectMapper objectMapper;
+    private final Cache<String, PrecompressedBody> bodies;
+
+    public PrecompressedResponseCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                      @Value("${response.precompressed.maxBytes}") long maxBytes,
+                                      @Value("${response.precompressed.ttlSeconds}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.bodies = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, PrecompressedBody body) -> body.identity().length + (body.gzip() == null ? 0 : body.gzip().length))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+
+        Gauge.builder("response.precompressed.bytes", bodies,
+                        cache -> cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .register(meterRegistry);
+    }
+
+    // key 로 만들어둔 응답이 있으면 그대로, 없으면 response 를 직렬화, 압축해서 저장 (key 에는 응답 버전이 포함되어야 함)
+    public ResponseEntity<byte[]> get(String key, String acceptEncoding,
+                                      Supplier<ResponseEntity<LinkedHashMap<String, Object>>> response) {
+        log.trace("PrecompressedResponseCache > get()");
+        PrecompressedBody body = bodies.get(key, k -> serialize(response.get()));
+        boolean gzip = body.gzip() != null && acceptsGzip(acceptEncoding);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(body.status())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(gzip ? body.gzip() : body.identity());
+    }
+
+    private PrecompressedBody serialize(ResponseEntity<LinkedHashMap<String, Object>> response) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(response.getBody());
+            byte[] gzip = gzip(identity);
+            return new PrecompressedBody(response.getStatusCode(), identity, gzip.length < identity.length ? gzip : null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    // Accept-Encoding 에 gzip (또는 *) 이 q=0 이 아닌 값으로 있는지 확인
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (coding.equalsIgnoreCase("gzip") || coding.equals("*")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0{0,3})?");
+            }
+        }
+        return false;
+    }
+
+    // gzip 이 원본보다 크면 (작은 응답) null
+    private record PrecompressedBody(HttpStatusCode status, byte[] identity, byte[] gzip) {
+    }
+}
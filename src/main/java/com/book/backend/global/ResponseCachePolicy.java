@@ -0,0 +1,22 @@
+package com.book.backend.global;
+
+import com.book.backend.domain.openapi.entity.OpenAPIEndpoint;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+
+// 조회 API 별 Cache-Control (max-age 가 지나면 ETag 로 재검증, 사용자와 무관한 응답이라 public)
+@Getter
+@RequiredArgsConstructor
+public enum ResponseCachePolicy {
+    TREND(Duration.ofMinutes(5)), // 스냅샷은 서버에서 주기적으로 갱신되므로 짧게 캐시
+    LIBRARY(OpenAPIEndpoint.LIB_SRCH.getCacheTtl()); // libSrch 응답 캐시와 같은 주기
+
+    private final Duration maxAge;
+
+    public CacheControl cacheControl() {
+        return CacheControl.maxAge(maxAge).cachePublic();
+    }
+}
@@ -1,10 +1,14 @@
 package com.book.backend.global;
 
 import java.util.LinkedHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -15,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 @Slf4j
 public class ResponseTemplate {
+    private final PrecompressedResponseCache precompressedResponseCache;
 
     // 성공 response 템플릿
     public ResponseEntity<LinkedHashMap<String, Object>> success(Object message, HttpStatus status) {
@@ -25,6 +30,89 @@ public class ResponseTemplate {
         return new ResponseEntity<>(response, status);
     }
 
+    // 미리 계산해둔 스냅샷으로 응답하는 경우 (snapshotAge : 스냅샷을 만든 뒤 지난 시간, 초 단위)
+    public ResponseEntity<LinkedHashMap<String, Object>> success(Object message, HttpStatus status, long snapshotAge) {
+        LinkedHashMap<String, Object> response = new LinkedHashMap<>();
+        response.put("statusCode", status.value());
+        response.put("snapshotAge", snapshotAge);
+        response.put("data", message);
+
+        return new ResponseEntity<>(response, status);
+    }
+
+    // 스냅샷을 cursor 로 나눠서 응답하는 경우 (nextCursor : 다음 페이지 요청에 사용, 마지막 페이지면 null)
+    public ResponseEntity<LinkedHashMap<String, Object>> success(Object message, HttpStatus status, long snapshotAge, String nextCursor) {
+        LinkedHashMap<String, Object> response = new LinkedHashMap<>();
+        response.put("statusCode", status.value());
+        response.put("snapshotAge", snapshotAge);
+        response.put("nextCursor", nextCursor);
+        response.put("data", message);
+
+        return new ResponseEntity<>(response, status);
+    }
+
+    /*
+        조건부 GET 응답 템플릿
+        If-None-Match 에 eTag 가 있으면 body 를 만들지 않고 304, 없으면 response 에 ETag, Cache-Control 을 붙여서 응답
+        응답 envelope 의 snapshotAge 는 요청 시각마다 달라지므로 eTag 는 weak validator (W/"...") 로 사용
+    */
+    public ResponseEntity<?> conditional(HttpServletRequest request, String eTag, ResponseCachePolicy cachePolicy,
+                                         Supplier<? extends ResponseEntity<?>> response) {
+        if (isNotModified(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cachePolicy.cacheControl())
+                    .build();
+        }
+        ResponseEntity<?> entity = response.get();
+        return ResponseEntity.status(entity.getStatusCode())
+                .headers(entity.getHeaders())
+                .eTag(eTag)
+                .cacheControl(cachePolicy.cacheControl())
+                .body(entity.getBody());
+    }
+
+    /*
+        모든 사용자에게 같은 응답 템플릿 (트렌드 스냅샷)
+        조건부 GET 을 먼저 확인하고, 304 가 아니면 같은 요청 URL + 버전(eTag) 으로 만들어둔 JSON, gzip bytes 로 응답
+    */
+    public ResponseEntity<?> shared(HttpServletRequest request, String eTag, ResponseCachePolicy cachePolicy,
+                                    Supplier<ResponseEntity<LinkedHashMap<String, Object>>> response) {
+        String query = request.getQueryString();
+        String key = request.getRequestURI() + (query == null ? "" : "?" + query) + "|" + eTag;
+        return conditional(request, eTag, cachePolicy,
+                () -> precompressedResponseCache.get(key, request.getHeader(HttpHeaders.ACCEPT_ENCODING), response));
+    }
+
+    // 버전이 따로 없는 응답의 ETag (JSON 으로 직렬화하지 않고 필드 값만 64bit FNV-1a 해시)
+    public static String contentETag(Stream<String> values) {
+        long hash = 0xcbf29ce484222325L;
+        for (String value : (Iterable<String>) values::iterator) {
+            if (value != null) {
+                for (int i = 0; i < value.length(); i++) {
+                    hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+                }
+            }
+            hash = (hash ^ 0x1f) * 0x100000001b3L; // 필드 구분자 ("ab","c" 와 "a","bc" 구분)
+        }
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+
+    // If-None-Match 는 쉼표로 구분된 ETag 목록 또는 * (weak 비교)
+    private static boolean isNotModified(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        String opaqueTag = eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     // 예외 response 템플릿
     public ResponseEntity<LinkedHashMap<String, Object>> fail(Exception e, HttpStatus status){
         LinkedHashMap<String, Object> response = new LinkedHashMap<>();
@@ -0,0 +1,32 @@
+package com.book.backend.global;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/*
+    @Scheduled 작업 (트렌드 스냅샷 갱신, 채팅 메시지 stream 복구) 전용 스케줄러
+    지정하지 않으면 이름이 taskScheduler 인 STOMP heartbeat 스케줄러 (스레드 1개) 에서 실행되어
+    외부 API 를 기다리는 동안 heartbeat 가 밀림
+*/
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(scheduledTaskScheduler());
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler scheduledTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2); // 갱신과 복구가 서로 기다리지 않도록 작업 수만큼
+        scheduler.setThreadNamePrefix("scheduled-task-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
@@ -0,0 +1,77 @@
+package com.book.backend.global.stomp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+    채팅 메시지 전송 (/sub/message/{opentalkId})
+    simple broker 는 구독 정보를 서버 메모리에만 가지고 있으므로, 서버가 여러 대면 Redis pub/sub (chat:message:{opentalkId}) 으로 중계
+    모든 서버가 chat:message:* 를 구독하고, 받은 메시지를 자기 서버에 연결된 구독자에게 전송 (보낸 서버도 Redis 를 거쳐서 전송)
+    chat.relay.enabled 가 false 이거나 Redis 에 발행하지 못하면 이 서버의 구독자에게만 바로 전송
+*/
+@Component
+@Slf4j
+public class ChatMessageRelay implements MessageListener {
+    private static final String CHANNEL_PREFIX = "chat:message:";
+    private static final String DESTINATION_PREFIX = "/sub/message/";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SimpMessageSendingOperations sendingOperations;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    public ChatMessageRelay(RedisTemplate<String, String> redisTemplate, RedisMessageListenerContainer listenerContainer,
+                            SimpMessageSendingOperations sendingOperations, ObjectMapper objectMapper,
+                            @Value("${chat.relay.enabled}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.sendingOperations = sendingOperations;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new PatternTopic(CHANNEL_PREFIX + "*"));
+        }
+    }
+
+    // opentalkId 오픈톡을 구독 중인 모든 서버의 사용자에게 전송
+    public void publish(Long opentalkId, Object payload) {
+        if (enabled) {
+            try {
+                redisTemplate.convertAndSend(CHANNEL_PREFIX + opentalkId, objectMapper.writeValueAsString(payload));
+                return;
+            } catch (Exception e) {
+                log.warn("채팅 메시지를 Redis 에 발행하지 못해 이 서버의 구독자에게만 전송합니다: " + e.getMessage());
+            }
+        }
+        sendingOperations.convertAndSend(DESTINATION_PREFIX + opentalkId, payload);
+    }
+
+    // 다른 서버 (또는 이 서버) 가 발행한 메시지를 이 서버의 구독자에게 전송
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String opentalkId = channel.substring(CHANNEL_PREFIX.length());
+        try {
+            // JSON 그대로 다시 직렬화되도록 트리로 읽어서 전송 (content-type : application/json 유지)
+            sendingOperations.convertAndSend(DESTINATION_PREFIX + opentalkId, objectMapper.readTree(message.getBody()));
+        } catch (Exception e) {
+            log.warn("Redis 에서 받은 채팅 메시지를 전송하지 못했습니다: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.book.backend.global.stomp;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.security.Principal;
+
+// STOMP CONNECT 에서 인증한 사용자 (WebSocket 세션 동안 유지, 메시지마다 DB 조회하지 않음)
+@Getter
+@RequiredArgsConstructor
+public class ChatPrincipal implements Principal {
+    private final Long userId;
+    private final String username; // kakaoId 또는 appleId
+    private final String nickname; // 연결할 때의 닉네임, 프로필 (바뀌면 다시 연결해야 반영)
+    private final String profileImageUrl;
+    private volatile long expiresAt; // 토큰 만료 시각 (epoch millis)
+
+    public ChatPrincipal(Long userId, String username, String nickname, String profileImageUrl, long expiresAt) {
+        this(userId, username, nickname, profileImageUrl);
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public boolean isExpired() {
+        return expiresAt <= System.currentTimeMillis();
+    }
+
+    // 같은 사용자의 새 토큰으로 세션 연장
+    void renew(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,102 @@
+package com.book.backend.global.stomp;
+
+import com.book.backend.domain.user.entity.User;
+import com.book.backend.domain.user.service.UserService;
+import com.book.backend.exception.CustomException;
+import com.book.backend.exception.ErrorCode;
+import com.book.backend.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/*
+    STOMP 인증
+    CONNECT 프레임의 Authorization 헤더 (Bearer 토큰) 를 한 번만 검증하고, 사용자 정보를 ChatPrincipal 로 세션에 저장
+    SEND 프레임은 토큰이 만료된 경우에만 다시 확인 (새 Authorization 헤더가 있으면 연장, 없으면 JWT_EXPIRED)
+    CONNECT 에 토큰이 없으면 이전처럼 메시지 body 의 jwtToken 으로 메시지마다 인증
+*/
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final UserService userService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            String token = resolveToken(accessor);
+            if (token != null) {
+                accessor.setUser(authenticate(token));
+            }
+        } else if (StompCommand.SEND.equals(accessor.getCommand())
+                && accessor.getUser() instanceof ChatPrincipal principal && principal.isExpired()) {
+            String token = resolveToken(accessor);
+            if (token == null) {
+                throw new CustomException(ErrorCode.JWT_EXPIRED);
+            }
+            renew(principal, token);
+        }
+        return message;
+    }
+
+    // 토큰을 한 번만 파싱해서 서명, 만료 확인 후 사용자 조회 (세션당 한 번)
+    private ChatPrincipal authenticate(String token) {
+        log.trace("StompAuthChannelInterceptor > authenticate()");
+        Claims claims = parse(token);
+        String username = String.valueOf(claims.get("username"));
+        User user = userService.findByUsername(username);
+        if (user == null) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+        return new ChatPrincipal(user.getUserId(), username, user.getNickname(), user.getProfileImageUrl(),
+                claims.getExpiration().getTime());
+    }
+
+    // 같은 사용자의 새 토큰이면 사용자 조회 없이 만료 시각만 연장
+    private void renew(ChatPrincipal principal, String token) {
+        log.trace("StompAuthChannelInterceptor > renew()");
+        Claims claims = parse(token);
+        if (!principal.getUsername().equals(String.valueOf(claims.get("username")))) {
+            throw new CustomException(ErrorCode.WRONG_JWT_TOKEN);
+        }
+        principal.renew(claims.getExpiration().getTime());
+    }
+
+    private Claims parse(String token) {
+        if (jwtUtil.isBlacklisted(token)) {
+            throw new CustomException(ErrorCode.JWT_IS_BLACKLISTED);
+        }
+        try {
+            return jwtUtil.getAllClaims(token);
+        } catch (ExpiredJwtException e) {
+            throw new CustomException(ErrorCode.JWT_EXPIRED);
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.WRONG_JWT_TOKEN);
+        }
+    }
+
+    private static String resolveToken(StompHeaderAccessor accessor) {
+        String authorization = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        return authorization.substring(BEARER_PREFIX.length());
+    }
+}
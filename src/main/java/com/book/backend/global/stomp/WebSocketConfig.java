@@ -3,6 +3,7 @@ package com.book.backend.global.stomp;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
@@ -16,6 +17,8 @@ import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
 @RequiredArgsConstructor
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
     /*
         request URL = https://ip:8080/ws-stomp
         Destination (발신 URL) = /pub/message
@@ -32,11 +35,17 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(final MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/pub"); // 발행요청
-        registry.enableSimpleBroker("/sub")// 구독요청
+        registry.enableSimpleBroker("/sub")// 구독요청 (이 서버에 연결된 구독자, 서버 간 중계는 ChatMessageRelay)
                 .setHeartbeatValue(new long[]{10000, 10000}) // client-server 간에 10초마다 ping 주고 받는 것으로 소켓 연결 유지
                 .setTaskScheduler(taskScheduler()); // TaskScheduler 설정 추가
     }
 
+    // CONNECT 에서 한 번만 인증 (메시지마다 토큰 검증, 사용자 조회하지 않음)
+    @Override
+    public void configureClientInboundChannel(final ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+
     // heartbeat 처리를 위한 스케줄러
     @Bean
     public ThreadPoolTaskScheduler taskScheduler() {
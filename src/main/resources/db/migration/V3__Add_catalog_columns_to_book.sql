@@ -0,0 +1,40 @@
+-- authors 컬럼 추가
+SET @col_exists_authors = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_NAME = 'book' AND COLUMN_NAME = 'authors'
+);
+
+SET @sql_authors = IF(@col_exists_authors = 0, 'ALTER TABLE book ADD COLUMN authors VARCHAR(512);', 'SELECT "authors column already exists";');
+PREPARE stmt_authors FROM @sql_authors;
+EXECUTE stmt_authors;
+DEALLOCATE PREPARE stmt_authors;
+
+-- page_count 컬럼 추가
+SET @col_exists_page_count = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_NAME = 'book' AND COLUMN_NAME = 'page_count'
+);
+
+SET @sql_page_count = IF(@col_exists_page_count = 0, 'ALTER TABLE book ADD COLUMN page_count INT;', 'SELECT "page_count column already exists";');
+PREPARE stmt_page_count FROM @sql_page_count;
+EXECUTE stmt_page_count;
+DEALLOCATE PREPARE stmt_page_count;
+
+-- isbn 인덱스 추가 (isbn 목록으로 한 번에 조회), 중복된 isbn 이 없으면 unique 인덱스로 생성
+SET @idx_exists_isbn = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_NAME = 'book' AND INDEX_NAME = 'idx_book_isbn'
+);
+SET @dup_isbn_count = (
+    SELECT COUNT(*)
+    FROM (SELECT isbn FROM book GROUP BY isbn HAVING COUNT(*) > 1) AS dup
+);
+
+SET @sql_isbn = IF(@idx_exists_isbn > 0, 'SELECT "idx_book_isbn already exists";',
+                   IF(@dup_isbn_count = 0, 'CREATE UNIQUE INDEX idx_book_isbn ON book (isbn);', 'CREATE INDEX idx_book_isbn ON book (isbn);'));
+PREPARE stmt_isbn FROM @sql_isbn;
+EXECUTE stmt_isbn;
+DEALLOCATE PREPARE stmt_isbn;
@@ -0,0 +1,23 @@
+-- stream_id 컬럼 추가 (write-behind 로 저장한 메시지의 Redis stream id)
+SET @col_exists_stream_id = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_NAME = 'message' AND COLUMN_NAME = 'stream_id'
+);
+
+SET @sql_stream_id = IF(@col_exists_stream_id = 0, 'ALTER TABLE message ADD COLUMN stream_id VARCHAR(64);', 'SELECT "stream_id column already exists";');
+PREPARE stmt_stream_id FROM @sql_stream_id;
+EXECUTE stmt_stream_id;
+DEALLOCATE PREPARE stmt_stream_id;
+
+-- stream_id unique 인덱스 추가 (같은 메시지를 다시 저장해도 INSERT IGNORE 로 건너뜀, NULL 은 중복 허용)
+SET @idx_exists_stream_id = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_NAME = 'message' AND INDEX_NAME = 'idx_message_stream_id'
+);
+
+SET @sql_idx_stream_id = IF(@idx_exists_stream_id = 0, 'CREATE UNIQUE INDEX idx_message_stream_id ON message (stream_id);', 'SELECT "idx_message_stream_id already exists";');
+PREPARE stmt_idx_stream_id FROM @sql_idx_stream_id;
+EXECUTE stmt_idx_stream_id;
+DEALLOCATE PREPARE stmt_idx_stream_id;
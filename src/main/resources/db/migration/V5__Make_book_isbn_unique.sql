@@ -0,0 +1,78 @@
+-- 같은 isbn 의 book 행 정리 (카탈로그 저장과 오픈톡 생성이 동시에 같은 isbn 을 insert 한 경우)
+-- isbn 마다 남길 행 : 오픈톡이 있으면 가장 먼저 만든 오픈톡의 책, 없으면 가장 작은 book_id
+CREATE TEMPORARY TABLE book_isbn_keep AS
+SELECT b.isbn,
+       COALESCE(
+           (SELECT o.book_id FROM opentalk o JOIN book ob ON o.book_id = ob.book_id
+            WHERE ob.isbn = b.isbn ORDER BY o.opentalk_id LIMIT 1),
+           MIN(b.book_id)) AS keep_book_id,
+       (SELECT o.opentalk_id FROM opentalk o JOIN book ob ON o.book_id = ob.book_id
+        WHERE ob.isbn = b.isbn ORDER BY o.opentalk_id LIMIT 1) AS keep_opentalk_id,
+       MAX(b.page_count) AS page_count
+FROM book b
+WHERE b.isbn IS NOT NULL
+GROUP BY b.isbn
+HAVING COUNT(*) > 1;
+
+-- 지워질 책의 오픈톡 메시지, 즐겨찾기를 남길 오픈톡으로 옮김
+UPDATE message m
+    JOIN opentalk o ON m.opentalk_id = o.opentalk_id
+    JOIN book b ON o.book_id = b.book_id
+    JOIN book_isbn_keep k ON b.isbn = k.isbn
+SET m.opentalk_id = k.keep_opentalk_id
+WHERE o.opentalk_id <> k.keep_opentalk_id;
+
+UPDATE user_opentalk uo
+    JOIN opentalk o ON uo.opentalk_id = o.opentalk_id
+    JOIN book b ON o.book_id = b.book_id
+    JOIN book_isbn_keep k ON b.isbn = k.isbn
+SET uo.opentalk_id = k.keep_opentalk_id
+WHERE o.opentalk_id <> k.keep_opentalk_id;
+
+-- 옮기면서 생긴 같은 사용자의 중복 즐겨찾기 제거
+DELETE uo1
+FROM user_opentalk uo1
+    JOIN user_opentalk uo2
+        ON uo1.user_id = uo2.user_id AND uo1.opentalk_id = uo2.opentalk_id AND uo1.user_opentalk_id > uo2.user_opentalk_id;
+
+DELETE o
+FROM opentalk o
+    JOIN book b ON o.book_id = b.book_id
+    JOIN book_isbn_keep k ON b.isbn = k.isbn
+WHERE o.opentalk_id <> k.keep_opentalk_id;
+
+-- 지워질 행에만 있던 페이지 수는 남길 행으로 옮김
+UPDATE book b
+    JOIN book_isbn_keep k ON b.book_id = k.keep_book_id
+SET b.page_count = COALESCE(b.page_count, k.page_count);
+
+DELETE b
+FROM book b
+    JOIN book_isbn_keep k ON b.isbn = k.isbn
+WHERE b.book_id <> k.keep_book_id;
+
+DROP TEMPORARY TABLE book_isbn_keep;
+
+-- V3 에서 중복 때문에 일반 인덱스로 만든 경우 삭제
+SET @idx_non_unique_isbn = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_NAME = 'book' AND INDEX_NAME = 'idx_book_isbn' AND NON_UNIQUE = 1
+);
+
+SET @sql_drop_isbn = IF(@idx_non_unique_isbn > 0, 'DROP INDEX idx_book_isbn ON book;', 'SELECT "idx_book_isbn is not a non-unique index";');
+PREPARE stmt_drop_isbn FROM @sql_drop_isbn;
+EXECUTE stmt_drop_isbn;
+DEALLOCATE PREPARE stmt_drop_isbn;
+
+-- isbn unique 인덱스 추가 (카탈로그 저장, 오픈톡 생성 모두 INSERT ... ON DUPLICATE KEY UPDATE 로 저장)
+SET @idx_exists_isbn = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_NAME = 'book' AND INDEX_NAME = 'idx_book_isbn'
+);
+
+SET @sql_isbn = IF(@idx_exists_isbn = 0, 'CREATE UNIQUE INDEX idx_book_isbn ON book (isbn);', 'SELECT "idx_book_isbn already exists";');
+PREPARE stmt_isbn FROM @sql_isbn;
+EXECUTE stmt_isbn;
+DEALLOCATE PREPARE stmt_isbn;
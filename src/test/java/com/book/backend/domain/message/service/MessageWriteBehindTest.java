@@ -0,0 +1,225 @@
+package com.book.backend.domain.message.service;
+
+import com.book.backend.domain.message.entity.Message;
+import com.book.backend.domain.message.repository.MessageRepository;
+import com.book.backend.domain.opentalk.entity.Opentalk;
+import com.book.backend.domain.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MessageWriteBehindTest {
+    private static final String STREAM_KEY = "message:stream";
+    private static final String RECOVERY_LOCK_KEY = "message:stream:recovery:lock";
+    private static final long NO_SCHEDULED_FLUSH = 60_000; // 주기 저장이 테스트 중에 끼어들지 않도록
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private MessageRepository messageRepository;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private MessageWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doReturn(streamOperations).when(redisTemplate).opsForStream();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writeBehind != null) {
+            writeBehind.shutdown();
+        }
+    }
+
+    @Test
+    void batchSize_만큼_모이면_여러_행을_INSERT_한_번으로_저장하고_stream_에서_삭제() {
+        writeBehind = newWriteBehind(100, 3);
+        stubStreamAdd();
+
+        writeBehind.append(message(1L, "첫 번째"));
+        writeBehind.append(message(1L, "두 번째"));
+        writeBehind.append(message(2L, "세 번째"));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, timeout(1000)).update(sql.capture(), args.capture());
+        assertThat(sql.getValue())
+                .startsWith("INSERT INTO message (opentalk_id, user_id, type, content, created_at, stream_id) VALUES ")
+                .endsWith("(?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE stream_id = stream_id")
+                .doesNotContain("IGNORE"); // 길이 초과, 외래 키 오류는 경고로 바꾸지 않음
+        assertThat(args.getValue()).hasSize(18);
+        assertThat(args.getValue()[3]).isEqualTo("첫 번째");
+        assertThat(args.getValue()[15]).isEqualTo("세 번째");
+
+        verify(streamOperations, timeout(1000)).delete(STREAM_KEY, "1-1", "1-2", "1-3");
+        verify(messageRepository, never()).save(any());
+    }
+
+    @Test
+    void 대기열이_가득_차면_호출_스레드에서_바로_저장() {
+        writeBehind = newWriteBehind(1, 100);
+        stubStreamAdd();
+        AtomicReference<String> persistThread = new AtomicReference<>();
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            persistThread.set(Thread.currentThread().getName());
+            return 1;
+        });
+
+        writeBehind.append(message(1L, "대기열에 들어감"));
+        writeBehind.append(message(1L, "대기열 초과"));
+
+        // append 가 반환되기 전에 호출 스레드에서 저장
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(anyString(), args.capture());
+        assertThat(args.getValue()).hasSize(6);
+        assertThat(args.getValue()[3]).isEqualTo("대기열 초과");
+        assertThat(args.getValue()[5]).isEqualTo("1-2");
+        assertThat(persistThread.get()).isEqualTo(Thread.currentThread().getName());
+        verify(streamOperations).delete(STREAM_KEY, "1-2");
+    }
+
+    @Test
+    void Redis_에_기록하지_못하면_바로_저장() {
+        writeBehind = newWriteBehind(100, 100);
+        when(streamOperations.add(any(MapRecord.class))).thenThrow(new RedisConnectionFailureException("down"));
+        Message message = message(1L, "Redis 장애");
+
+        writeBehind.append(message);
+
+        verify(messageRepository).save(message);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void 오래된_stream_메시지를_stream_id_와_함께_다시_저장() {
+        writeBehind = newWriteBehind(100, 100);
+        doReturn(valueOperations).when(redisTemplate).opsForValue();
+        when(valueOperations.setIfAbsent(eq(RECOVERY_LOCK_KEY), eq("1"), any(Duration.class))).thenReturn(true);
+        MapRecord<String, Object, Object> stale = MapRecord.<String, Object, Object>create(STREAM_KEY, Map.of(
+                        "opentalkId", "3", "userId", "4", "type", "TALK", "content", "남은 메시지", "createdAt", "1000"))
+                .withId(RecordId.of("1000-0"));
+        when(streamOperations.range(eq(STREAM_KEY), any(Range.class), any(Limit.class))).thenReturn(List.of(stale));
+
+        writeBehind.recover();
+
+        // 이미 저장된 메시지여도 stream_id unique + ON DUPLICATE KEY UPDATE 로 중복 저장되지 않음
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(sql.capture(), args.capture());
+        assertThat(sql.getValue()).startsWith("INSERT INTO message").endsWith("ON DUPLICATE KEY UPDATE stream_id = stream_id");
+        assertThat(args.getValue()).containsExactly(3L, 4L, "TALK", "남은 메시지", new Timestamp(1000), "1000-0");
+        verify(streamOperations).delete(STREAM_KEY, "1000-0");
+    }
+
+    @Test
+    void 저장할_수_없는_행이_섞이면_한_행씩_저장하고_그_행만_stream_에서_삭제() {
+        writeBehind = newWriteBehind(100, 100);
+        doReturn(valueOperations).when(redisTemplate).opsForValue();
+        when(valueOperations.setIfAbsent(eq(RECOVERY_LOCK_KEY), eq("1"), any(Duration.class))).thenReturn(true);
+        MapRecord<String, Object, Object> deletedOpentalk = staleRecord("1000-0", "3");
+        MapRecord<String, Object, Object> valid = staleRecord("1000-1", "5");
+        when(streamOperations.range(eq(STREAM_KEY), any(Range.class), any(Limit.class)))
+                .thenReturn(List.of(deletedOpentalk, valid));
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            Object[] args = invocation.getArgument(1);
+            if (args.length > 6 || args[0].equals(3L)) { // 삭제된 오픈톡 (외래 키 오류)
+                throw new DataIntegrityViolationException("foreign key");
+            }
+            return 1;
+        });
+
+        writeBehind.recover();
+
+        verify(jdbcTemplate, times(3)).update(anyString(), any(Object[].class)); // batch 1번 + 한 행씩 2번
+        verify(streamOperations).delete(STREAM_KEY, "1000-0"); // 다시 저장해도 실패하므로 남겨두지 않음
+        verify(streamOperations).delete(STREAM_KEY, "1000-1");
+    }
+
+    @Test
+    void 다른_서버가_recovery_lock_을_잡고_있으면_건너뜀() {
+        writeBehind = newWriteBehind(100, 100);
+        doReturn(valueOperations).when(redisTemplate).opsForValue();
+        when(valueOperations.setIfAbsent(eq(RECOVERY_LOCK_KEY), eq("1"), any(Duration.class))).thenReturn(false);
+
+        writeBehind.recover();
+
+        verify(streamOperations, never()).range(anyString(), any(Range.class), any(Limit.class));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private static MapRecord<String, Object, Object> staleRecord(String id, String opentalkId) {
+        return MapRecord.<String, Object, Object>create(STREAM_KEY, Map.of(
+                        "opentalkId", opentalkId, "userId", "4", "type", "TALK", "content", "남은 메시지", "createdAt", "1000"))
+                .withId(RecordId.of(id));
+    }
+
+    private MessageWriteBehind newWriteBehind(int queueCapacity, int batchSize) {
+        return new MessageWriteBehind(redisTemplate, jdbcTemplate, messageRepository, new SimpleMeterRegistry(),
+                queueCapacity, batchSize, NO_SCHEDULED_FLUSH, 60, 30_000);
+    }
+
+    // XADD 마다 1-1, 1-2, ... 순서로 id 발급
+    private void stubStreamAdd() {
+        when(streamOperations.add(any(MapRecord.class)))
+                .thenAnswer(invocation -> RecordId.of("1-" + sequence.incrementAndGet()));
+    }
+
+    private Message message(Long opentalkId, String content) {
+        Opentalk opentalk = new Opentalk();
+        opentalk.setOpentalkId(opentalkId);
+        User user = new User();
+        user.setUserId(10L);
+        Message message = new Message();
+        message.setOpentalk(opentalk);
+        message.setUser(user);
+        message.setType("TALK");
+        message.setContent(content);
+        message.setCreatedAt(new Date());
+        return message;
+    }
+}
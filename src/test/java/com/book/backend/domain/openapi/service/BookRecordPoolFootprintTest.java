@@ -0,0 +1,208 @@
+package com.book.backend.domain.openapi.service;
+
+import com.book.backend.domain.genre.service.GenreResponseParser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.minidev.json.JSONObject;
+import net.minidev.json.JSONValue;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    BookRecordPool 이 줄이는 heap 측정
+    같은 대출 급상승, 장르 순위, 추천 응답 body 를 pool 을 쓰는 parser 와 쓰지 않는 parser (기존 ResponseParser 결과) 로
+    각각 파싱해서 트렌드 스냅샷처럼 보관하고, 보관 중인 DTO + 문자열의 추정 크기를 비교 (같은 인스턴스는 한 번만 셈)
+    pool 을 쓰는 쪽은 pool 자체 (BookRecord, cache entry) 도 더함
+    크기는 64bit JVM, compressed oops, compact strings 기준 추정치
+*/
+class BookRecordPoolFootprintTest {
+    private static final int BOOKS = 1200; // 장르 전체 기간 순위 응답 크기
+    private static final int OBJECT_HEADER = 12;
+    private static final int REFERENCE = 4;
+    private static final int STRING_SHALLOW = 24;
+    private static final int ARRAY_HEADER = 16;
+    private static final int BOOK_RECORD_SHALLOW = align(OBJECT_HEADER + 8 * REFERENCE);
+    private static final int BOXED_LONG = 16;
+    private static final int CACHE_ENTRY = 64; // Caffeine node + hash table slot (넉넉하게)
+
+    @Test
+    void 같은_응답을_pool_로_파싱하면_보관하는_heap_이_줄어듦() {
+        long unpooled = retainedBytes(snapshots(noPool()));
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BookRecordPool pool = new BookRecordPool(registry, 20000);
+        long pooled = retainedBytes(snapshots(pool)) + poolBytes(registry);
+
+        System.out.printf("보관 중인 트렌드 스냅샷 추정 크기 : pool 없음 %,d bytes, pool 사용 %,d bytes (%.1f%% 절약)%n",
+                unpooled, pooled, 100.0 * (unpooled - pooled) / unpooled);
+        assertThat(pooled).isLessThan(unpooled);
+    }
+
+    // TrendSnapshotService 가 한 번의 갱신 주기 동안 보관하는 목록
+    private List<List<?>> snapshots(BookRecordPool pool) {
+        ResponseParser responseParser = new ResponseParser(pool);
+        GenreResponseParser genreResponseParser = new GenreResponseParser(new OpenAPIStreamParser(pool));
+        List<List<?>> snapshots = new ArrayList<>();
+
+        // 장르 전체 기간 순위 (newTrend, random 이 같은 응답을 각자 파싱)
+        String allPeriod = loanItemSrchBody(range(0, BOOKS));
+        snapshots.add(genreResponseParser.ranking(allPeriod).stream()
+                .filter(book -> genreResponseParser.publicationYear(book) >= 2022)
+                .toList());
+        snapshots.add(genreResponseParser.ranking(allPeriod).subList(0, 300));
+
+        // 기간별 장르 순위 (aWeekTrend, aMonthTrend, thisWeekTrend)
+        snapshots.add(genreResponseParser.ranking(loanItemSrchBody(shuffled(range(0, 300), 1))));
+        snapshots.add(genreResponseParser.ranking(loanItemSrchBody(shuffled(range(100, 400), 2))));
+        snapshots.add(genreResponseParser.ranking(loanItemSrchBody(shuffled(range(50, 350), 3))));
+
+        // 대출 급상승
+        snapshots.add(responseParser.hotTrend(json(hotTrendBody(IntStream.range(0, BOOKS).filter(i -> i % 6 == 0).boxed().toList()))));
+
+        // 상세 화면 추천 목록
+        for (int i = 0; i < 10; i++) {
+            int start = i * 97 % BOOKS;
+            snapshots.add(responseParser.recommend(json(recommendBody(range(start, Math.min(start + 40, BOOKS))))));
+        }
+        return snapshots;
+    }
+
+    // 기존 parser 결과 (책 정보를 공유하지 않음)
+    private static BookRecordPool noPool() {
+        return new BookRecordPool(new SimpleMeterRegistry(), 0) {
+            @Override
+            public <T> T intern(T response) {
+                return response;
+            }
+        };
+    }
+
+    // DTO 와 문자열 (같은 인스턴스는 한 번만), 목록 자체의 크기는 양쪽이 같으므로 제외
+    private static long retainedBytes(List<List<?>> snapshots) {
+        Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        long bytes = 0;
+        for (List<?> snapshot : snapshots) {
+            for (Object dto : snapshot) {
+                if (!seen.add(dto)) {
+                    continue;
+                }
+                List<Field> fields = instanceFields(dto.getClass());
+                bytes += align(OBJECT_HEADER + REFERENCE * fields.size());
+                for (Field field : fields) {
+                    Object value = read(field, dto);
+                    if (value instanceof String string && seen.add(string)) {
+                        bytes += stringBytes(string);
+                    }
+                }
+            }
+        }
+        return bytes;
+    }
+
+    // pool 의 BookRecord, ISBN key, cache entry (문자열은 스냅샷의 DTO 와 같은 인스턴스라 이미 셈)
+    private static long poolBytes(MeterRegistry registry) {
+        long records = (long) registry.get("book.record.pool.size").gauge().value();
+        long strings = (long) registry.get("book.record.pool.strings").gauge().value(); // 공유 값 entry 수의 상한
+        return records * (BOOK_RECORD_SHALLOW + BOXED_LONG + CACHE_ENTRY) + strings * CACHE_ENTRY;
+    }
+
+    private static List<Field> instanceFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                assertThat(field.getType()).as(field.toString()).isEqualTo(String.class); // 문자열 필드만 있는 DTO
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private static Object read(Field field, Object dto) {
+        try {
+            field.setAccessible(true);
+            return field.get(dto);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long stringBytes(String value) {
+        boolean latin1 = value.chars().allMatch(c -> c <= 0xFF);
+        return STRING_SHALLOW + align(ARRAY_HEADER + (latin1 ? value.length() : 2L * value.length()));
+    }
+
+    private static int align(long bytes) {
+        return (int) ((bytes + 7) / 8 * 8);
+    }
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().toList();
+    }
+
+    private static List<Integer> shuffled(List<Integer> books, long seed) {
+        List<Integer> shuffled = new ArrayList<>(books);
+        Collections.shuffle(shuffled, new Random(seed));
+        return shuffled;
+    }
+
+    private static JSONObject json(String body) {
+        return (JSONObject) ((JSONObject) JSONValue.parse(body)).get("response");
+    }
+
+    // 응답 body (OpenAPI 응답과 같은 구조, 파싱할 때마다 새 문자열이 만들어지도록 문자열로 생성)
+    private static String loanItemSrchBody(List<Integer> books) {
+        StringJoiner docs = new StringJoiner(",");
+        for (int rank = 0; rank < books.size(); rank++) {
+            int i = books.get(rank);
+            docs.add("{\"doc\":{" + bookFields(i) + ",\"no\":\"" + (rank + 1) + "\",\"ranking\":\"" + (rank + 1)
+                    + "\",\"addition_symbol\":\"03810\",\"loan_count\":\"" + (5000 - rank) + "\",\"bookDtlUrl\":\""
+                    + "https://data4library.kr/bookV?seq=" + (100000 + i) + "\"}}");
+        }
+        return "{\"response\":{\"docs\":[" + docs + "]}}";
+    }
+
+    private static String hotTrendBody(List<Integer> books) {
+        StringJoiner docs = new StringJoiner(",");
+        for (int rank = 0; rank < books.size(); rank++) {
+            int i = books.get(rank);
+            docs.add("{\"doc\":{" + bookFields(i) + ",\"no\":\"" + (rank + 1) + "\",\"difference\":\"" + (rank % 40)
+                    + "\",\"baseWeekRank\":\"" + (rank + 1) + "\",\"pastWeekRank\":\"" + (rank + 41)
+                    + "\",\"addition_symbol\":\"03810\",\"vol\":\"\",\"bookDtlUrl\":\""
+                    + "https://data4library.kr/bookV?seq=" + (100000 + i) + "\"}}");
+        }
+        return "{\"response\":{\"results\":[{\"result\":{\"docs\":[" + docs + "]}}]}}";
+    }
+
+    private static String recommendBody(List<Integer> books) {
+        StringJoiner docs = new StringJoiner(",");
+        for (int i : books) {
+            docs.add("{\"book\":{" + bookFields(i) + ",\"vol\":\"\"}}");
+        }
+        return "{\"response\":{\"docs\":[" + docs + "]}}";
+    }
+
+    // 책 i 의 정보 (응답마다 같은 값)
+    private static String bookFields(int i) {
+        String isbn = String.valueOf(9788900000000L + i * 7L);
+        return "\"bookname\":\"" + "소설 제목 " + i + " : 어느 여름날의 이야기\""
+                + ",\"authors\":\"" + "지은이: 작가" + (i % 400) + " ; 옮긴이: 번역가" + (i % 97) + "\""
+                + ",\"publisher\":\"" + "출판사" + (i % 150) + "\""
+                + ",\"publication_year\":\"" + (1995 + i % 30) + "\""
+                + ",\"isbn13\":\"" + isbn + "\""
+                + ",\"class_no\":\"" + "813." + (i % 9) + "\""
+                + ",\"class_nm\":\"" + "문학 > 한국문학 > 소설" + (i % 10) + "\""
+                + ",\"bookImageURL\":\"" + "https://image.aladin.co.kr/product/" + (30000 + i) + "/cover/" + isbn + "_1.jpg\"";
+    }
+}
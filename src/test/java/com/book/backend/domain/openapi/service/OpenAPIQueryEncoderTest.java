@@ -0,0 +1,122 @@
+package com.book.backend.domain.openapi.service;
+
+import com.book.backend.domain.openapi.dto.request.BookExistRequestDto;
+import com.book.backend.domain.openapi.dto.request.DetailRequestDto;
+import com.book.backend.domain.openapi.dto.request.HotTrendRequestDto;
+import com.book.backend.domain.openapi.dto.request.LibSrchRequestDto;
+import com.book.backend.domain.openapi.dto.request.LoanItemSrchRequestDto;
+import com.book.backend.domain.openapi.dto.request.MonthlyKeywordsRequestDto;
+import com.book.backend.domain.openapi.dto.request.OpenAPIRequestInterface;
+import com.book.backend.domain.openapi.dto.request.RecommendListRequestDto;
+import com.book.backend.domain.openapi.dto.request.SearchRequestDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.web.util.UriUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenAPIQueryEncoderTest {
+    // 공백, 예약 문자, 따옴표, 한글, unreserved 문자가 섞인 값
+    private static final String TRICKY = "a b&c=d+e/f?g#h%\"해리 포터\"~-_.";
+
+    private final OpenAPIQueryEncoder encoder = new OpenAPIQueryEncoder();
+
+    @Test
+    void 모든_request_DTO_가_UriUtils_로_인코딩한_query_string_과_같음() {
+        for (OpenAPIRequestInterface dto : samples()) {
+            assertThat(encoder.encode(dto))
+                    .as(dto.getClass().getSimpleName())
+                    .isEqualTo(uriUtilsQuery(dto));
+        }
+    }
+
+    @Test
+    void 테스트가_모든_request_DTO_를_포함() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(OpenAPIRequestInterface.class));
+        List<String> scanned = scanner.findCandidateComponents("com.book.backend").stream()
+                .map(BeanDefinition::getBeanClassName)
+                .toList();
+
+        assertThat(samples()).extracting(dto -> dto.getClass().getName())
+                .containsExactlyInAnyOrderElementsOf(scanned);
+    }
+
+    // SearchController 가 UriUtils.encode("\"" + input + "\"") 를 하던 때와 같은 값이 OpenAPI 로 전달되어야 함
+    @Test
+    void 검색어의_따옴표와_한글을_한_번만_인코딩() {
+        SearchRequestDto dto = SearchRequestDto.builder()
+                .title("\"해리 포터\"")
+                .pageNo("1")
+                .pageSize("10")
+                .build();
+
+        assertThat(encoder.encode(dto))
+                .isEqualTo("pageNo=1&pageSize=10&title=%22%ED%95%B4%EB%A6%AC%20%ED%8F%AC%ED%84%B0%22")
+                .contains("title=" + UriUtils.encode("\"해리 포터\"", StandardCharsets.UTF_8))
+                .doesNotContain("%25"); // 이중 인코딩 없음
+    }
+
+    @Test
+    void null_필드는_제외하고_이름순으로_정렬() {
+        LoanItemSrchRequestDto dto = LoanItemSrchRequestDto.builder()
+                .pageSize("300")
+                .dtl_kdc("813")
+                .startDt("2024-01-01")
+                .build();
+
+        assertThat(encoder.encode(dto)).isEqualTo("dtl_kdc=813&pageSize=300&startDt=2024-01-01");
+        assertThat(encoder.encode(LoanItemSrchRequestDto.builder().build())).isEmpty();
+    }
+
+    private List<OpenAPIRequestInterface> samples() {
+        MonthlyKeywordsRequestDto monthlyKeywords = new MonthlyKeywordsRequestDto();
+        monthlyKeywords.setSearchDt();
+        return List.of(
+                BookExistRequestDto.builder().libCode("111" + TRICKY).isbn13("9788936434120").build(),
+                DetailRequestDto.builder().isbn13("978 89&" + TRICKY).build(),
+                HotTrendRequestDto.builder().searchDt("2024-01-01").build(),
+                LibSrchRequestDto.builder().libCode("111").region("11").dtl_region(TRICKY).pageNo("1").pageSize("20").build(),
+                new LoanItemSrchRequestDto("2024-01-01", "2024-01-31", "0", "20", "29", "20", "11", "11010",
+                        "big", "0", "8", "813", "1", "300"),
+                monthlyKeywords,
+                RecommendListRequestDto.builder().isbn13("9788936434120").type("mania").build(),
+                SearchRequestDto.builder().title("\"" + TRICKY + "\"").author("작가 이름").keyword(TRICKY)
+                        .pageNo("1").pageSize("10").build());
+    }
+
+    // 이전 방식 : 선언된 필드를 읽어 UriUtils.encode 로 인코딩 (encoder 와 같은 이름순, null 제외)
+    private static String uriUtilsQuery(Object dto) {
+        StringJoiner query = new StringJoiner("&");
+        Arrays.stream(dto.getClass().getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic())
+                .sorted(Comparator.comparing(Field::getName))
+                .forEach(field -> {
+                    Object value = read(field, dto);
+                    if (value != null) {
+                        query.add(field.getName() + "=" + UriUtils.encode(Objects.toString(value), StandardCharsets.UTF_8));
+                    }
+                });
+        return query.toString();
+    }
+
+    private static Object read(Field field, Object dto) {
+        try {
+            field.setAccessible(true);
+            return field.get(dto);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
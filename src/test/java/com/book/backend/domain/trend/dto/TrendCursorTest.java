@@ -0,0 +1,109 @@
+package com.book.backend.domain.trend.dto;
+
+import com.book.backend.domain.book.service.BookService;
+import com.book.backend.domain.genre.repository.GenreRepository;
+import com.book.backend.domain.genre.service.GenreService;
+import com.book.backend.domain.openapi.service.BookRecordPool;
+import com.book.backend.domain.openapi.service.RequestValidate;
+import com.book.backend.domain.trend.entity.TrendSnapshotType;
+import com.book.backend.domain.trend.service.TrendSnapshotService;
+import com.book.backend.exception.CustomException;
+import com.book.backend.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class TrendCursorTest {
+    private static final String SNAPSHOT_ID = "newTrend?genreCode=813";
+    private static final long CREATED_AT = 1718000000000L;
+
+    @Test
+    void encode_한_cursor_를_decode_하면_같은_값() {
+        TrendCursor cursor = new TrendCursor(SNAPSHOT_ID, CREATED_AT, 40);
+
+        String encoded = cursor.encode();
+        TrendCursor decoded = TrendCursor.decode(encoded);
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+"); // URL 에 그대로 쓸 수 있는 문자만 (padding 없음)
+        assertThat(decoded.getSnapshotId()).isEqualTo(SNAPSHOT_ID);
+        assertThat(decoded.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(decoded.getOffset()).isEqualTo(40);
+    }
+
+    @Test
+    void 스냅샷_페이지의_nextCursor_는_같은_버전의_다음_위치를_가리킴() {
+        List<Integer> items = IntStream.range(0, 25).boxed().toList();
+        TrendSnapshot<Integer> snapshot = new TrendSnapshot<>(SNAPSHOT_ID, items, CREATED_AT);
+
+        TrendPage<Integer> first = snapshot.page(0, 10);
+        TrendCursor next = TrendCursor.decode(first.getNextCursor());
+        TrendPage<Integer> last = snapshot.page(next.getOffset(), 20);
+
+        assertThat(next.getSnapshotId()).isEqualTo(SNAPSHOT_ID);
+        assertThat(next.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(next.getOffset()).isEqualTo(10);
+        assertThat(last.getItems()).containsExactlyElementsOf(items.subList(10, 25));
+        assertThat(last.getNextCursor()).isNull(); // 마지막 페이지
+    }
+
+    @Test
+    void 형식이_맞지_않는_cursor_는_INVALID_CURSOR() {
+        String valid = new TrendCursor(SNAPSHOT_ID, CREATED_AT, 40).encode();
+        String[] tampered = {
+                "",
+                "!!!not-base64!!!",
+                valid + "A", // base64 길이가 맞지 않음
+                valid.substring(0, valid.length() - 3), // 잘린 cursor
+                encode(SNAPSHOT_ID), // 구분자 없음
+                encode(SNAPSHOT_ID + "\n" + CREATED_AT), // offset 없음
+                encode(SNAPSHOT_ID + "\n" + CREATED_AT + "\n-10"), // 음수 offset
+                encode(SNAPSHOT_ID + "\nversion\n40"), // 숫자가 아닌 버전
+                encode(SNAPSHOT_ID + "\n" + CREATED_AT + "\n40; DROP"), // 숫자가 아닌 offset
+                encode(SNAPSHOT_ID + "\n" + CREATED_AT + "\n99999999999") // int 범위 초과
+        };
+
+        for (String cursor : tampered) {
+            assertThatThrownBy(() -> TrendCursor.decode(cursor))
+                    .as(cursor)
+                    .isInstanceOfSatisfying(CustomException.class,
+                            e -> assertThat(e.getCode()).isEqualTo(ErrorCode.INVALID_CURSOR));
+        }
+    }
+
+    @Test
+    void 다른_장르의_스냅샷_id_로_바꾼_cursor_는_Redis_조회_없이_INVALID_CURSOR() {
+        RedisTemplate<?, ?> redisTemplate = mock(RedisTemplate.class);
+        TrendSnapshotService trendSnapshotService = trendSnapshotService(redisTemplate);
+        String otherGenre = new TrendCursor("newTrend?genreCode=814", CREATED_AT, 20).encode();
+        String otherType = new TrendCursor("aWeekTrend?genreCode=813", CREATED_AT, 20).encode();
+
+        for (String cursor : new String[]{otherGenre, otherType}) {
+            assertThatThrownBy(() -> trendSnapshotService.page(TrendSnapshotType.NEW_TREND,
+                    Map.of("genreCode", "813"), cursor, null, "20"))
+                    .isInstanceOfSatisfying(CustomException.class,
+                            e -> assertThat(e.getCode()).isEqualTo(ErrorCode.INVALID_CURSOR));
+        }
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TrendSnapshotService trendSnapshotService(RedisTemplate<?, ?> redisTemplate) {
+        return new TrendSnapshotService((RedisTemplate<String, String>) redisTemplate, mock(BookService.class),
+                mock(GenreService.class), mock(GenreRepository.class), mock(RequestValidate.class),
+                mock(BookRecordPool.class), 6, 7, 60, 30);
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,143 @@
+package com.book.backend.global;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseTemplateTest {
+    private static final String ETAG = "W/\"1a2b-18f00000000-0-20\"";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PrecompressedResponseCache precompressedResponseCache =
+            new PrecompressedResponseCache(objectMapper, new SimpleMeterRegistry(), 1024 * 1024, 60);
+    private final ResponseTemplate responseTemplate = new ResponseTemplate(precompressedResponseCache);
+
+    @Test
+    void gzip_을_받는_요청은_미리_압축한_bytes_로_응답() throws IOException {
+        MockHttpServletRequest request = request("/api/genre/newTrend", "gzip, deflate, br");
+
+        ResponseEntity<?> response = responseTemplate.shared(request, ETAG, ResponseCachePolicy.TREND, largeBody());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETAG);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo(ResponseCachePolicy.TREND.cacheControl().getHeaderValue());
+        assertThat(objectMapper.readTree(gunzip((byte[]) response.getBody())))
+                .isEqualTo(objectMapper.valueToTree(largeBody().get().getBody()));
+    }
+
+    @Test
+    void gzip_을_받지_않는_요청은_원본_bytes_로_응답() throws IOException {
+        for (String acceptEncoding : new String[]{null, "identity", "gzip;q=0", "br, gzip; q=0.000"}) {
+            MockHttpServletRequest request = request("/api/genre/newTrend", acceptEncoding);
+
+            ResponseEntity<?> response = responseTemplate.shared(request, ETAG, ResponseCachePolicy.TREND, largeBody());
+
+            assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).as(acceptEncoding).isFalse();
+            assertThat(response.getHeaders().getVary()).as(acceptEncoding).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+            assertThat(objectMapper.readTree((byte[]) response.getBody()))
+                    .isEqualTo(objectMapper.valueToTree(largeBody().get().getBody()));
+        }
+    }
+
+    @Test
+    void 압축해도_작아지지_않는_응답은_gzip_을_받아도_원본으로_응답() {
+        MockHttpServletRequest request = request("/api/book/keyword", "gzip");
+
+        ResponseEntity<?> response = responseTemplate.shared(request, ETAG, ResponseCachePolicy.TREND,
+                () -> responseTemplate.success(List.of("책"), HttpStatus.OK, 0));
+
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    void 같은_URL_과_버전은_한_번만_직렬화() {
+        AtomicInteger built = new AtomicInteger();
+        Supplier<ResponseEntity<LinkedHashMap<String, Object>>> body = () -> {
+            built.incrementAndGet();
+            return largeBody().get();
+        };
+
+        responseTemplate.shared(request("/api/genre/newTrend", "gzip"), ETAG, ResponseCachePolicy.TREND, body);
+        responseTemplate.shared(request("/api/genre/newTrend", null), ETAG, ResponseCachePolicy.TREND, body);
+        assertThat(built).hasValue(1);
+
+        responseTemplate.shared(request("/api/genre/newTrend", "gzip"), "W/\"other\"", ResponseCachePolicy.TREND, body);
+        assertThat(built).hasValue(2); // 버전이 바뀌면 다시 만듦
+    }
+
+    @Test
+    void If_None_Match_가_ETag_와_같으면_body_없이_304() {
+        for (String ifNoneMatch : new String[]{ETAG, ETAG.substring(2), "\"x\", " + ETAG, "*"}) {
+            MockHttpServletRequest request = request("/api/genre/newTrend", "gzip");
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+            AtomicInteger built = new AtomicInteger();
+
+            ResponseEntity<?> response = responseTemplate.shared(request, ETAG, ResponseCachePolicy.TREND, () -> {
+                built.incrementAndGet();
+                return largeBody().get();
+            });
+
+            assertThat(response.getStatusCode()).as(ifNoneMatch).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(response.getBody()).isNull();
+            assertThat(response.getHeaders().getETag()).isEqualTo(ETAG);
+            assertThat(response.getHeaders().getCacheControl()).isEqualTo(ResponseCachePolicy.TREND.cacheControl().getHeaderValue());
+            assertThat(built).hasValue(0);
+        }
+    }
+
+    @Test
+    void If_None_Match_가_다르면_200_과_새_ETag() {
+        MockHttpServletRequest request = request("/api/library/searchByLibCode", null);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"old\"");
+
+        ResponseEntity<?> response = responseTemplate.conditional(request, ETAG, ResponseCachePolicy.LIBRARY,
+                () -> responseTemplate.success("도서관", HttpStatus.OK));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETAG);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo(ResponseCachePolicy.LIBRARY.cacheControl().getHeaderValue());
+        assertThat(response.getBody()).isInstanceOf(Map.class);
+    }
+
+    private static MockHttpServletRequest request(String uri, String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setQueryString("genreCode=813&pageNo=1&pageSize=20");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return request;
+    }
+
+    // 같은 구조가 반복되는 목록 (gzip 으로 충분히 작아짐)
+    private Supplier<ResponseEntity<LinkedHashMap<String, Object>>> largeBody() {
+        List<Map<String, String>> items = IntStream.range(0, 200)
+                .mapToObj(i -> Map.of("bookname", "책 이름 " + i, "authors", "작가", "isbn13", String.valueOf(9788900000000L + i)))
+                .toList();
+        return () -> responseTemplate.success(items, HttpStatus.OK, 30);
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.book.backend.global.stomp;
+
+import com.book.backend.global.RedisConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    Redis 하나를 공유하는 서버 두 대 (application context 두 개) 로 채팅 메시지 중계 확인
+    각 서버에는 /sub/message/{opentalkId} 구독자가 하나씩 있음 (simple broker 대신 보낸 메시지를 기록)
+*/
+@Testcontainers(disabledWithoutDocker = true)
+class ChatMessageRelayTest {
+    private static final long OPENTALK_ID = 7L;
+    private static final String DESTINATION = "/sub/message/" + OPENTALK_ID;
+    private static final long RECEIVE_TIMEOUT_MILLIS = 5000;
+    private static final long QUIET_PERIOD_MILLIS = 500; // 중복 전송이 없는지 기다리는 시간
+
+    @Container
+    private static final GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @AfterEach
+    void closeNodes() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    void 다른_서버의_구독자에게도_한_번씩_전송() throws Exception {
+        ConfigurableApplicationContext nodeA = startNode(true);
+        ConfigurableApplicationContext nodeB = startNode(true);
+
+        nodeA.getBean(ChatMessageRelay.class).publish(OPENTALK_ID, Map.of("content", "안녕하세요 \"책\""));
+
+        List<JsonNode> receivedA = nodeA.getBean(Subscriber.class).awaitMessages(1);
+        List<JsonNode> receivedB = nodeB.getBean(Subscriber.class).awaitMessages(1);
+        Thread.sleep(QUIET_PERIOD_MILLIS);
+
+        assertThat(receivedA).hasSize(1);
+        assertThat(receivedB).hasSize(1);
+        assertThat(nodeA.getBean(Subscriber.class).messages()).hasSize(1);
+        assertThat(nodeB.getBean(Subscriber.class).messages()).hasSize(1);
+        assertThat(receivedB.get(0).get("content").asText()).isEqualTo("안녕하세요 \"책\"");
+    }
+
+    @Test
+    void 서버마다_발행한_메시지를_모두_한_번씩_전송() throws Exception {
+        ConfigurableApplicationContext nodeA = startNode(true);
+        ConfigurableApplicationContext nodeB = startNode(true);
+
+        nodeA.getBean(ChatMessageRelay.class).publish(OPENTALK_ID, Map.of("content", "from A"));
+        nodeB.getBean(ChatMessageRelay.class).publish(OPENTALK_ID, Map.of("content", "from B"));
+
+        nodeA.getBean(Subscriber.class).awaitMessages(2);
+        nodeB.getBean(Subscriber.class).awaitMessages(2);
+        Thread.sleep(QUIET_PERIOD_MILLIS);
+
+        for (ConfigurableApplicationContext node : nodes) {
+            assertThat(node.getBean(Subscriber.class).messages())
+                    .extracting(message -> message.get("content").asText())
+                    .containsExactlyInAnyOrder("from A", "from B");
+        }
+    }
+
+    @Test
+    void 중계를_끄면_이_서버의_구독자에게만_전송() throws Exception {
+        ConfigurableApplicationContext localNode = startNode(false);
+        ConfigurableApplicationContext otherNode = startNode(true); // Redis 로 발행되면 이 서버가 받음
+
+        localNode.getBean(ChatMessageRelay.class).publish(OPENTALK_ID, Map.of("content", "local"));
+
+        List<JsonNode> received = localNode.getBean(Subscriber.class).awaitMessages(1);
+        Thread.sleep(QUIET_PERIOD_MILLIS);
+
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).get("content").asText()).isEqualTo("local");
+        assertThat(localNode.getBean(Subscriber.class).messages()).hasSize(1);
+        assertThat(otherNode.getBean(Subscriber.class).messages()).isEmpty();
+    }
+
+    private ConfigurableApplicationContext startNode(boolean relayEnabled) {
+        ConfigurableApplicationContext node = new SpringApplicationBuilder(RelayNode.class)
+                .web(WebApplicationType.NONE)
+                .run( // application.yml 보다 우선하도록 실행 인자로 전달
+                        "--spring.data.redis.host=" + redis.getHost(),
+                        "--spring.data.redis.port=" + redis.getMappedPort(6379),
+                        "--spring.data.redis.password=",
+                        "--chat.relay.enabled=" + relayEnabled);
+        nodes.add(node);
+        return node;
+    }
+
+    // 서버 한 대 : Redis 설정, 중계, 구독자 (자동 설정 없이 필요한 bean 만 생성)
+    @Configuration
+    @Import({RedisConfig.class, ChatMessageRelay.class})
+    static class RelayNode {
+        private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        SimpMessagingTemplate sendingOperations() {
+            return new SimpMessagingTemplate(brokerChannel);
+        }
+
+        @Bean
+        Subscriber subscriber(ObjectMapper objectMapper) {
+            Subscriber subscriber = new Subscriber(objectMapper);
+            brokerChannel.subscribe(subscriber::handle);
+            return subscriber;
+        }
+    }
+
+    // /sub/message/{opentalkId} 로 전송된 메시지 기록
+    static class Subscriber {
+        private final ObjectMapper objectMapper;
+        private final List<JsonNode> messages = new CopyOnWriteArrayList<>();
+
+        Subscriber(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+        void handle(Message<?> message) {
+            if (!DESTINATION.equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders()))) {
+                return;
+            }
+            try {
+                messages.add(objectMapper.readTree((byte[]) message.getPayload()));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        List<JsonNode> messages() {
+            return messages;
+        }
+
+        List<JsonNode> awaitMessages(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + RECEIVE_TIMEOUT_MILLIS;
+            while (messages.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            return messages;
+        }
+    }
+}